@@ -0,0 +1,23 @@
+#!/bin/bash
+
+# Load a running backend and print throughput and latency percentiles.
+# Run once per execution mode (VIRTUAL_THREADS=false / true) and compare.
+# Requires hey (https://github.com/rakyll/hey).
+
+BASE_URL=${BASE_URL:-http://localhost:3001}
+DURATION=${DURATION:-30s}
+CONCURRENCY=${CONCURRENCY:-400}
+
+if [ -z "$TOKEN" ] || [ -z "$PROJECT_ID" ]; then
+    echo "Usage: TOKEN=<jwt> PROJECT_ID=<id> [BASE_URL=...] [DURATION=30s] [CONCURRENCY=400] $0"
+    exit 1
+fi
+
+URL="$BASE_URL/api/projects/$PROJECT_ID/board"
+
+echo "Warming up..."
+hey -z 10s -c 50 -H "Authorization: Bearer $TOKEN" "$URL" > /dev/null
+
+echo "Loading $URL for $DURATION with $CONCURRENCY concurrent clients"
+hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer $TOKEN" "$URL" \
+    | grep -E "Requests/sec|50%|95%|99%|\[[0-9]{3}\]"
@@ -0,0 +1,30 @@
+package com.jiraclone.benchmark;
+
+import com.jiraclone.domain.enums.ProjectRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Role hierarchy check done on every authorized request
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProjectRoleBenchmark {
+
+    private final ProjectRole[] roles = ProjectRole.values();
+    private int index;
+
+    @Benchmark
+    public boolean hasPermission() {
+        // Walk all (role, required) pairs so the JIT cannot constant-fold the call
+        int i = index++;
+        ProjectRole role = roles[i % roles.length];
+        ProjectRole required = roles[(i / roles.length) % roles.length];
+        return role.hasPermission(required);
+    }
+}
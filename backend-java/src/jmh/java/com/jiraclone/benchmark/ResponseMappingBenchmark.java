@@ -0,0 +1,48 @@
+package com.jiraclone.benchmark;
+
+import com.jiraclone.domain.entity.Issue;
+import com.jiraclone.domain.enums.ProjectRole;
+import com.jiraclone.dto.response.IssueResponse;
+import com.jiraclone.dto.response.ProjectDetailResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of a fully loaded project (GET /api/projects/{id})
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    @Param({ "100", "1000", "5000" })
+    private int issueCount;
+
+    @Param({ "5" })
+    private int commentsPerIssue;
+
+    private SyntheticGraphs.ProjectGraph graph;
+
+    @Setup
+    public void setUp() {
+        graph = SyntheticGraphs.project(issueCount, commentsPerIssue, 20);
+    }
+
+    @Benchmark
+    public void issueResponseFrom(Blackhole blackhole) {
+        for (Issue issue : graph.issues()) {
+            blackhole.consume(IssueResponse.from(issue));
+        }
+    }
+
+    @Benchmark
+    public ProjectDetailResponse projectDetailResponseFrom() {
+        return ProjectDetailResponse.from(graph.project(), ProjectRole.MEMBER,
+            graph.issues(), graph.permissions());
+    }
+}
@@ -0,0 +1,141 @@
+package com.jiraclone.benchmark;
+
+import com.jiraclone.domain.entity.Comment;
+import com.jiraclone.domain.entity.Issue;
+import com.jiraclone.domain.entity.Permission;
+import com.jiraclone.domain.entity.Project;
+import com.jiraclone.domain.entity.User;
+import com.jiraclone.domain.enums.IssuePriority;
+import com.jiraclone.domain.enums.IssueStatus;
+import com.jiraclone.domain.enums.IssueType;
+import com.jiraclone.domain.enums.ProjectCategory;
+import com.jiraclone.domain.enums.ProjectRole;
+import com.jiraclone.domain.rank.LexoRank;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic in-memory project graphs (no database) shaped like a loaded project:
+ * issues with a reporter, assignees, comments and subtasks, plus the member permissions.
+ */
+public final class SyntheticGraphs {
+
+    private SyntheticGraphs() {
+    }
+
+    public record ProjectGraph(Project project, List<Issue> issues, List<Permission> permissions) {
+    }
+
+    public static ProjectGraph project(int issueCount, int commentsPerIssue, int memberCount) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        Project project = Project.builder()
+            .id(uuid(random))
+            .key("BENCH")
+            .name("Benchmark Project")
+            .description("Synthetic project for microbenchmarks")
+            .category(ProjectCategory.values()[0])
+            .isPublic(true)
+            .issueCounter(issueCount)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+
+        List<User> users = new ArrayList<>(memberCount);
+        List<Permission> permissions = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            User user = User.builder()
+                .id(uuid(random))
+                .name("User " + i)
+                .email("user" + i + "@bench.local")
+                .avatarUrl("https://example.com/avatars/" + i + ".png")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+            users.add(user);
+            permissions.add(Permission.builder()
+                .id(uuid(random))
+                .userId(user.getId())
+                .projectId(project.getId())
+                .role(ProjectRole.values()[i % ProjectRole.values().length])
+                .user(user)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        }
+
+        List<Issue> issues = new ArrayList<>(issueCount);
+        for (int i = 0; i < issueCount; i++) {
+            User reporter = users.get(random.nextInt(users.size()));
+            Issue issue = Issue.builder()
+                .id(uuid(random))
+                .key("BENCH-" + (i + 1))
+                .title("Issue " + i + " " + words(random, 6))
+                .description("<p>" + words(random, 60) + "</p>")
+                .type(IssueType.values()[random.nextInt(IssueType.values().length)])
+                .status(IssueStatus.values()[random.nextInt(IssueStatus.values().length)])
+                .priority(IssuePriority.values()[random.nextInt(IssuePriority.values().length)])
+                .listPosition(i)
+                .listRank(LexoRank.forPosition(i))
+                .estimate(random.nextInt(16))
+                .reporterId(reporter.getId())
+                .reporter(reporter)
+                .projectId(project.getId())
+                .project(project)
+                .createdAt(now.plusMinutes(i))
+                .updatedAt(now.plusMinutes(i))
+                .build();
+
+            for (int a = 0; a < 2; a++) {
+                issue.getAssignees().add(users.get(random.nextInt(users.size())));
+            }
+            for (int c = 0; c < commentsPerIssue; c++) {
+                User author = users.get(random.nextInt(users.size()));
+                issue.getComments().add(Comment.builder()
+                    .id(uuid(random))
+                    .body(words(random, 25))
+                    .issueId(issue.getId())
+                    .userId(author.getId())
+                    .user(author)
+                    .issue(issue)
+                    .createdAt(now.plusMinutes(i).plusSeconds(c))
+                    .updatedAt(now.plusMinutes(i).plusSeconds(c))
+                    .build());
+            }
+
+            // Every fifth issue is a subtask of the previous parent
+            if (i % 5 == 4) {
+                Issue parent = issues.get(i - 1);
+                issue.setParentIssueId(parent.getId());
+                issue.setParentIssue(parent);
+                parent.getSubtasks().add(issue);
+            }
+            issues.add(issue);
+        }
+
+        return new ProjectGraph(project, issues, permissions);
+    }
+
+    private static String uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            int length = 3 + random.nextInt(8);
+            for (int c = 0; c < length; c++) {
+                text.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return text.toString();
+    }
+}
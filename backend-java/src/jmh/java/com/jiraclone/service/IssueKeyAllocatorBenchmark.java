@@ -0,0 +1,85 @@
+package com.jiraclone.service;
+
+import com.jiraclone.domain.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issue creates per second in one hot project, as far as key allocation goes: all
+ * threads take keys from the same project. A block reservation is simulated as a
+ * database round trip of {@code roundTripMicros}; block size 1 is the old per-issue
+ * counter update.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class IssueKeyAllocatorBenchmark {
+
+    private static final String PROJECT_ID = "hot-project";
+
+    @Param({ "1", "50" })
+    private int blockSize;
+
+    @Param({ "500" })
+    private long roundTripMicros;
+
+    private IssueKeyAllocator allocator;
+
+    @Setup
+    public void setUp() {
+        allocator = new IssueKeyAllocator(projectRepository(), new NoOpTransactionManager(), blockSize);
+    }
+
+    @Benchmark
+    public String nextKey() {
+        return allocator.nextKey(PROJECT_ID);
+    }
+
+    private ProjectRepository projectRepository() {
+        AtomicInteger counter = new AtomicInteger();
+        return (ProjectRepository) Proxy.newProxyInstance(ProjectRepository.class.getClassLoader(),
+            new Class<?>[] { ProjectRepository.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "findKeyById":
+                        return Optional.of("HOT");
+                    case "incrementIssueCounterBy":
+                        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+                        counter.addAndGet((Integer) args[1]);
+                        return 1;
+                    case "findIssueCounterById":
+                        return counter.get();
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
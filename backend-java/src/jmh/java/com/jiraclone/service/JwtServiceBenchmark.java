@@ -0,0 +1,53 @@
+package com.jiraclone.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification, as done on login and on every authenticated request
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-min-256-bits-for-hs256-algorithm";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtService = new JwtService();
+        setField("jwtSecret", SECRET);
+        setField("jwtExpiration", 86_400_000L);
+        jwtService.init();
+        token = jwtService.generateToken("6f1c2a4e-5b7d-4c8e-9f10-1a2b3c4d5e6f", "iron.man@taskflow.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("6f1c2a4e-5b7d-4c8e-9f10-1a2b3c4d5e6f", "iron.man@taskflow.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUserIdFromToken() {
+        return jwtService.getUserIdFromToken(token);
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtService, value);
+    }
+}
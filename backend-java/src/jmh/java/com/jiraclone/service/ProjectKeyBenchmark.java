@@ -0,0 +1,31 @@
+package com.jiraclone.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex-based project key derivation on create and import (the uniqueness
+ * lookup against the database is not part of the measurement)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectKeyBenchmark {
+
+    @Param({ "X", "TaskFlow Project", "Área de Operações 2024 - Migração (fase #3) do Sistema Legado" })
+    private String projectName;
+
+    @Benchmark
+    public String projectServiceKey() {
+        return ProjectService.baseProjectKey(projectName);
+    }
+
+    @Benchmark
+    public String projectImportServiceKey() {
+        return ProjectImportService.baseProjectKey(projectName);
+    }
+}
@@ -0,0 +1,52 @@
+package com.jiraclone.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples of one operation, recorded by a single worker thread and
+ * merged once the run is over
+ */
+final class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void merge(LatencyStats other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.samples[i]);
+        }
+        errors += other.errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds; sorts the samples in place
+     */
+    double percentileMs(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(samples, 0, size);
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return samples[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,136 @@
+package com.jiraclone.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jiraclone.JiraCloneApplication;
+import com.jiraclone.config.SyntheticDataSeeder;
+import com.jiraclone.domain.entity.User;
+import com.jiraclone.domain.repository.UserRepository;
+import com.jiraclone.loadtest.WorkloadDriver.Operation;
+import com.jiraclone.loadtest.WorkloadDriver.Project;
+import com.jiraclone.search.IssueSearchIndex;
+import com.jiraclone.service.JwtService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test: starts the application with the loadtest profile (embedded H2
+ * in MySQL mode unless spring.datasource.* points elsewhere), seeds a synthetic
+ * dataset with {@link SyntheticDataSeeder}, drives the configured request mix over HTTP and writes throughput and
+ * p50/p95/p99 latency per endpoint to a JSON report.
+ *
+ * ./mvnw -Ploadtest compile exec:java -Dloadtest.projects=20 -Dloadtest.issues=2000
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        Map<String, Object> report;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JiraCloneApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+            report = run(context, settings);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        File reportFile = new File(settings.reportFile());
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(reportFile, report);
+        log.info("Load test report written to {}", reportFile.getAbsolutePath());
+        System.exit(0);
+    }
+
+    private static Map<String, Object> run(ConfigurableApplicationContext context, LoadTestSettings settings)
+            throws Exception {
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        SyntheticDataSeeder.Dataset dataset = context.getBean(SyntheticDataSeeder.class).seed(
+            settings.projects(), settings.issuesPerProject(), settings.commentsPerIssue(), settings.users(),
+            settings.seed());
+
+        // Rows were inserted without change events; index them like a fresh start would
+        context.getBean(IssueSearchIndex.class).rebuild();
+
+        // The seeder keeps no issue ids, read them back for the workload
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Project> projects = new ArrayList<>(dataset.getProjects().size());
+        for (SyntheticDataSeeder.SeededProject project : dataset.getProjects()) {
+            List<String> issueIds = jdbcTemplate.queryForList(
+                "SELECT id FROM issues WHERE project_id = ?", String.class, project.getId());
+            projects.add(new Project(project.getId(), project.getMemberIds(), issueIds));
+        }
+
+        JwtService jwtService = context.getBean(JwtService.class);
+        Map<String, String> tokensByUserId = new HashMap<>();
+        for (User user : context.getBean(UserRepository.class).findAllById(dataset.getUserIds())) {
+            tokensByUserId.put(user.getId(), jwtService.generateToken(user.getId(), user.getEmail()));
+        }
+
+        WorkloadDriver driver = new WorkloadDriver(baseUrl, projects, tokensByUserId, settings,
+            context.getBean(ObjectMapper.class));
+
+        log.info("Warming up for {} s with {} workers", settings.warmupSeconds(), settings.concurrency());
+        driver.run(settings.warmupSeconds());
+
+        log.info("Measuring for {} s with {} workers", settings.durationSeconds(), settings.concurrency());
+        Map<Operation, LatencyStats> results = driver.run(settings.durationSeconds());
+
+        return buildReport(settings, results);
+    }
+
+    private static Map<String, Object> buildReport(LoadTestSettings settings, Map<Operation, LatencyStats> results) {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+
+        for (Map.Entry<Operation, LatencyStats> entry : results.entrySet()) {
+            LatencyStats stats = entry.getValue();
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("operation", entry.getKey().name());
+            endpoint.put("endpoint", entry.getKey().getEndpoint());
+            endpoint.put("requests", stats.count());
+            endpoint.put("errors", stats.errors());
+            endpoint.put("throughputPerSecond", round((double) stats.count() / settings.durationSeconds()));
+            endpoint.put("p50Ms", round(stats.percentileMs(50)));
+            endpoint.put("p95Ms", round(stats.percentileMs(95)));
+            endpoint.put("p99Ms", round(stats.percentileMs(99)));
+            endpoint.put("maxMs", round(stats.percentileMs(100)));
+            endpoints.add(endpoint);
+
+            totalRequests += stats.count();
+            totalErrors += stats.errors();
+            log.info("{} {}: {} req ({} errors), {}/s, p50 {} ms, p95 {} ms, p99 {} ms",
+                entry.getKey(), entry.getKey().getEndpoint(), stats.count(), stats.errors(),
+                endpoint.get("throughputPerSecond"), endpoint.get("p50Ms"), endpoint.get("p95Ms"), endpoint.get("p99Ms"));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("settings", settings);
+        report.put("durationSeconds", settings.durationSeconds());
+        report.put("totalRequests", totalRequests);
+        report.put("totalErrors", totalErrors);
+        report.put("throughputPerSecond", round((double) totalRequests / settings.durationSeconds()));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.jiraclone.loadtest;
+
+import com.jiraclone.loadtest.WorkloadDriver.Operation;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from -Dloadtest.* system properties
+ */
+record LoadTestSettings(
+    int projects,
+    int issuesPerProject,
+    int commentsPerIssue,
+    int users,
+    int concurrency,
+    int warmupSeconds,
+    int durationSeconds,
+    long seed,
+    Map<Operation, Integer> mix,
+    String reportFile
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            int weight = intProperty("loadtest.mix." + operation.name().toLowerCase(), operation.getDefaultWeight());
+            if (weight > 0) {
+                mix.put(operation, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("At least one loadtest.mix.* weight must be positive");
+        }
+
+        return new LoadTestSettings(
+            intProperty("loadtest.projects", 10),
+            intProperty("loadtest.issues", 500),
+            intProperty("loadtest.comments", 3),
+            intProperty("loadtest.users", 50),
+            intProperty("loadtest.concurrency", 32),
+            intProperty("loadtest.warmup-seconds", 15),
+            intProperty("loadtest.duration-seconds", 60),
+            Long.getLong("loadtest.seed", 42L),
+            mix,
+            System.getProperty("loadtest.report", "target/loadtest-report.json"));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(name, defaultValue);
+    }
+}
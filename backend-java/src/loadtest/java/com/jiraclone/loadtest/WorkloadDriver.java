@@ -0,0 +1,194 @@
+package com.jiraclone.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiraclone.config.SyntheticDataSeeder;
+import com.jiraclone.domain.enums.IssueStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-model load: a fixed number of workers, each picking a user, a project and an
+ * operation by weight and sending the request as soon as the previous one completed.
+ */
+@Slf4j
+class WorkloadDriver {
+
+    enum Operation {
+        BOARD("GET /api/projects/{id}?view=board", 50),
+        SEARCH("GET /api/issues/search", 20),
+        DRAG("POST /api/projects/{id}/board/moves", 20),
+        COMMENT("POST /api/comments", 10);
+
+        private final String endpoint;
+        private final int defaultWeight;
+
+        Operation(String endpoint, int defaultWeight) {
+            this.endpoint = endpoint;
+            this.defaultWeight = defaultWeight;
+        }
+
+        String getEndpoint() {
+            return endpoint;
+        }
+
+        int getDefaultWeight() {
+            return defaultWeight;
+        }
+    }
+
+    private final String baseUrl;
+    private final List<Project> projects;
+    private final Map<String, String> tokensByUserId;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Operation[] operationTable;
+
+    WorkloadDriver(String baseUrl, List<Project> projects, Map<String, String> tokensByUserId,
+                   LoadTestSettings settings, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.projects = projects;
+        this.tokensByUserId = tokensByUserId;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+        // One slot per weight unit, so picking a random slot follows the mix
+        List<Operation> table = new ArrayList<>();
+        settings.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(operation);
+            }
+        });
+        this.operationTable = table.toArray(new Operation[0]);
+    }
+
+    /**
+     * Run the workload for the given time and return the merged latencies per operation
+     */
+    Map<Operation, LatencyStats> run(int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        try {
+            List<Future<Map<Operation, LatencyStats>>> futures = new ArrayList<>();
+            for (int i = 0; i < settings.concurrency(); i++) {
+                futures.add(workers.submit(() -> work(deadline)));
+            }
+
+            Map<Operation, LatencyStats> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, LatencyStats>> future : futures) {
+                future.get().forEach((operation, stats) ->
+                    merged.computeIfAbsent(operation, o -> new LatencyStats()).merge(stats));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<Operation, LatencyStats> work(long deadline) {
+        Random random = ThreadLocalRandom.current();
+        Map<Operation, LatencyStats> stats = new EnumMap<>(Operation.class);
+
+        while (System.nanoTime() < deadline) {
+            Operation operation = operationTable[random.nextInt(operationTable.length)];
+            Project project = projects.get(random.nextInt(projects.size()));
+            String userId = project.memberIds().get(random.nextInt(project.memberIds().size()));
+            LatencyStats operationStats = stats.computeIfAbsent(operation, o -> new LatencyStats());
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(
+                    request(operation, userId, project, random), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    operationStats.recordError();
+                } else {
+                    operationStats.record(System.nanoTime() - start);
+                }
+            } catch (IOException e) {
+                operationStats.recordError();
+                log.debug("{} failed: {}", operation, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return stats;
+    }
+
+    private HttpRequest request(Operation operation, String userId, Project project, Random random)
+            throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+            .timeout(Duration.ofSeconds(30))
+            .header("Authorization", "Bearer " + tokensByUserId.get(userId));
+
+        return switch (operation) {
+            case BOARD -> builder
+                .uri(URI.create(baseUrl + "/api/projects/" + project.id() + "?view=board"))
+                .GET()
+                .build();
+            case SEARCH -> {
+                String term = SyntheticDataSeeder.word(random);
+                yield builder
+                    .uri(URI.create(baseUrl + "/api/issues/search?term=" + URLEncoder.encode(term, StandardCharsets.UTF_8)
+                        + "&projectId=" + project.id() + "&size=20"))
+                    .GET()
+                    .build();
+            }
+            case DRAG -> {
+                List<String> issueIds = project.issueIds();
+                String issueId = issueIds.get(random.nextInt(issueIds.size()));
+                String afterIssueId = issueIds.get(random.nextInt(issueIds.size()));
+                Map<String, Object> move = new HashMap<>();
+                move.put("issueId", issueId);
+                move.put("status", IssueStatus.values()[random.nextInt(IssueStatus.values().length)]);
+                if (!afterIssueId.equals(issueId)) {
+                    move.put("afterIssueId", afterIssueId);
+                }
+                yield json(builder, "/api/projects/" + project.id() + "/board/moves", Map.of("moves", List.of(move)));
+            }
+            case COMMENT -> {
+                String issueId = project.issueIds().get(random.nextInt(project.issueIds().size()));
+                yield json(builder, "/api/comments", Map.of(
+                    "body", SyntheticDataSeeder.sentence(random, 12),
+                    "issueId", issueId,
+                    "userId", userId));
+            }
+        };
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String path, Object body) throws IOException {
+        return builder
+            .uri(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+    }
+
+    /**
+     * A seeded project: requests against it are sent as one of its members
+     */
+    record Project(String id, List<String> memberIds, List<String> issueIds) {
+    }
+}
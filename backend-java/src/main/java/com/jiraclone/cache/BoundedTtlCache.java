@@ -0,0 +1,179 @@
+package com.jiraclone.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Small thread-safe cache with a maximum size and per-entry expiry.
+ *
+ * Null values are cached too (e.g. "user has no permission on this project").
+ * A load that races with an invalidation is not stored, so an invalidated
+ * entry cannot be brought back by a read that started before it. Invalidations
+ * bump one generation for the whole cache rather than a version per key, because
+ * the predicate ones cannot tell which keys they would cover before those are stored.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public BoundedTtlCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = Math.max(maxSize, 1);
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Cached value for the key, loading and storing it on a miss
+     */
+    public V get(K key, Function<K, V> loader) {
+        Entry<V> entry = lookup(key);
+        if (entry != null) {
+            return entry.value;
+        }
+
+        long loadGeneration = generation.get();
+        V value = loader.apply(key);
+        store(key, value, System.currentTimeMillis() + ttlMillis, loadGeneration);
+        return value;
+    }
+
+    /**
+     * Cached value for values with an expiry of their own: on a miss the loader returns
+     * the value and its expiry time (see {@link Entry#expiringAt}), or null for a result
+     * that must not be cached, in which case null is returned. The entry expires at the
+     * earlier of that time and the cache TTL.
+     */
+    public V getExpiring(K key, Function<K, Entry<V>> loader) {
+        Entry<V> entry = lookup(key);
+        if (entry != null) {
+            return entry.value;
+        }
+
+        long loadGeneration = generation.get();
+        Entry<V> loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+        store(key, loaded.value, Math.min(loaded.expiresAt, System.currentTimeMillis() + ttlMillis), loadGeneration);
+        return loaded.value;
+    }
+
+    /**
+     * Cached entry for the key, or null on a miss. A non-null result may wrap a null value.
+     */
+    public Entry<V> lookup(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            hits.incrementAndGet();
+            return entry;
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public void invalidateIf(Predicate<K> predicate) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(predicate);
+    }
+
+    public void invalidateValuesIf(Predicate<V> predicate) {
+        generation.incrementAndGet();
+        entries.values().removeIf(entry -> entry.value != null && predicate.test(entry.value));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public CacheStats stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        return new CacheStats(name, entries.size(), maxSize, hitCount, missCount,
+            evictions.get(), total == 0 ? 0.0 : (double) hitCount / total);
+    }
+
+    private void store(K key, V value, long expiresAt, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            evict();
+        }
+        Entry<V> stored = new Entry<>(value, expiresAt);
+        // Checked under the key's lock, so invalidate(key) either runs first and the value
+        // is dropped, or waits and removes it
+        entries.compute(key, (k, current) -> generation.get() == loadGeneration ? stored : current);
+        // Predicate invalidations iterate without that lock and may have passed the key
+        // before it was stored
+        if (generation.get() != loadGeneration) {
+            entries.remove(key, stored);
+        }
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> {
+            boolean expired = entry.expiresAt <= now;
+            if (expired) {
+                evictions.incrementAndGet();
+            }
+            return expired;
+        });
+
+        // Still full: drop arbitrary entries down to 90% of the bound
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() >= maxSize * 9 / 10 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Loaded value for {@link BoundedTtlCache#getExpiring}, valid until {@code expiresAt} (epoch millis)
+         */
+        public static <V> Entry<V> expiringAt(V value, long expiresAt) {
+            return new Entry<>(value, expiresAt);
+        }
+
+        public V getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jiraclone.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidation of cached data derived from rows written in the current transaction
+ */
+public final class CacheInvalidation {
+
+    private CacheInvalidation() {
+    }
+
+    /**
+     * Run the invalidation now and again once the surrounding transaction completes, so
+     * a load that read the old rows before the commit cannot leave them cached
+     */
+    public static void runNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
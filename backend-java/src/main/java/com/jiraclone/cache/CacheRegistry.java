@@ -0,0 +1,32 @@
+package com.jiraclone.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Creates the application's in-process caches and keeps track of them for stats reporting
+ */
+@Component
+public class CacheRegistry {
+
+    private final List<BoundedTtlCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    public <K, V> BoundedTtlCache<K, V> create(String name, int maxSize, Duration ttl) {
+        BoundedTtlCache<K, V> cache = new BoundedTtlCache<>(name, maxSize, ttl);
+        caches.add(cache);
+        return cache;
+    }
+
+    public List<BoundedTtlCache<?, ?>> getCaches() {
+        return List.copyOf(caches);
+    }
+
+    public List<CacheStats> stats() {
+        return caches.stream()
+            .map(BoundedTtlCache::stats)
+            .toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.jiraclone.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-region statistics of the Hibernate second-level and query caches.
+ * Sizes are -1 when the provider does not report them; maxSize is set in ehcache.xml.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheStats {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheStats> stats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheStats> regions = new ArrayList<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            regions.add(toCacheStats(statistics.getDomainDataRegionStatistics(regionName)));
+        }
+        CacheRegionStatistics queryRegion =
+            statistics.getQueryRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+        if (queryRegion != null) {
+            regions.add(toCacheStats(queryRegion));
+        }
+        return regions;
+    }
+
+    private static CacheStats toCacheStats(CacheRegionStatistics region) {
+        long requests = region.getHitCount() + region.getMissCount();
+        long size = region.getElementCountInMemory();
+        return new CacheStats(
+            region.getRegionName(),
+            size == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? -1 : size,
+            -1,
+            region.getHitCount(),
+            region.getMissCount(),
+            0,
+            requests == 0 ? 0.0 : (double) region.getHitCount() / requests);
+    }
+}
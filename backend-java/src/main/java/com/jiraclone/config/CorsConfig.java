@@ -1,5 +1,6 @@
 package com.jiraclone.config;
 
+import com.jiraclone.metrics.QueryCountHeaderAdvice;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,6 +43,7 @@ public class CorsConfig {
             configuration.setAllowedHeaders(headers);
         }
 
+        configuration.addExposedHeader(QueryCountHeaderAdvice.HEADER);
         configuration.setAllowCredentials(allowCredentials);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -12,10 +12,12 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import jakarta.persistence.PersistenceContext;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -33,6 +35,8 @@ public class DataInitializer implements CommandLineRunner {
     private final PermissionRepository permissionRepository;
     private final PasswordEncoder passwordEncoder;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final SyntheticDataSeeder syntheticDataSeeder;
 
     @PersistenceContext
     private jakarta.persistence.EntityManager entityManager;
@@ -40,8 +44,10 @@ public class DataInitializer implements CommandLineRunner {
     @Value("${seed.data.enabled:false}")
     private boolean seedDataEnabled;
 
+    @Value("${seed.data.scale.enabled:false}")
+    private boolean scaleSeedEnabled;
+
     @Override
-    @Transactional
     public void run(String... args) throws Exception {
         if (!seedDataEnabled) {
             log.info("Seed data is disabled");
@@ -54,35 +60,48 @@ public class DataInitializer implements CommandLineRunner {
             return;
         }
 
+        if (scaleSeedEnabled) {
+            // Synthetic dataset; commits in many short transactions of its own
+            syntheticDataSeeder.seed();
+            return;
+        }
+
         log.info("Starting data initialization...");
 
         try {
-            // Load JSON file from resources
-            ClassPathResource resource = new ClassPathResource("data/example-project.json");
-            InputStream inputStream = resource.getInputStream();
-            JsonNode rootNode = objectMapper.readTree(inputStream);
+            transactionTemplate.executeWithoutResult(status -> seedExampleProject());
+        } catch (Exception e) {
+            log.error("Error during data initialization", e);
+            throw e;
+        }
+    }
 
-            // Create project
-            Project project = createProject(rootNode);
-            entityManager.flush(); // Ensure project is persisted
+    private void seedExampleProject() {
+        // Load JSON file from resources
+        JsonNode rootNode;
+        try (InputStream inputStream = new ClassPathResource("data/example-project.json").getInputStream()) {
+            rootNode = objectMapper.readTree(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
-            // Create users
-            Map<String, User> usersMap = createUsers(rootNode);
-            entityManager.flush(); // Ensure users are persisted
+        // Create project
+        Project project = createProject(rootNode);
+        entityManager.flush(); // Ensure project is persisted
 
-            // Create permissions
-            createPermissions(project, usersMap);
+        // Create users
+        Map<String, User> usersMap = createUsers(rootNode);
+        entityManager.flush(); // Ensure users are persisted
 
-            // Create issues
-            createIssues(rootNode, project, usersMap);
+        // Create permissions
+        createPermissions(project, usersMap);
 
-            log.info("Data initialization completed successfully!");
-            log.info("Created {} users, 1 project, and {} issues",
-                    usersMap.size(), issueRepository.count());
-        } catch (Exception e) {
-            log.error("Error during data initialization", e);
-            throw e;
-        }
+        // Create issues
+        createIssues(rootNode, project, usersMap);
+
+        log.info("Data initialization completed successfully!");
+        log.info("Created {} users, 1 project, and {} issues",
+                usersMap.size(), issueRepository.count());
     }
 
     private Project createProject(JsonNode rootNode) {
@@ -250,8 +269,8 @@ public class DataInitializer implements CommandLineRunner {
             log.debug("Created issue: {} ({})", issueKey, issue.getTitle());
         }
 
-        // Save project with updated counter
-        projectRepository.save(project);
+        // issue_counter is not updatable through the entity
+        projectRepository.incrementIssueCounterBy(project.getId(), project.getIssueCounter());
     }
 
     private LocalDateTime toLocalDateTime(String isoDateString) {
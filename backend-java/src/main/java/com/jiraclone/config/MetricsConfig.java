@@ -0,0 +1,101 @@
+package com.jiraclone.config;
+
+import com.jiraclone.cache.BoundedTtlCache;
+import com.jiraclone.cache.CacheRegistry;
+import com.jiraclone.metrics.QueryBudgetInterceptor;
+import com.jiraclone.metrics.RequestStatisticsListener;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Application meters on top of what Spring Boot Actuator binds by itself
+ * (http.server.requests, hikaricp.*, hibernate.* session factory statistics).
+ *
+ * Adds per-request Hibernate counts (see RequestMetricsFilter), the per-endpoint
+ * query budgets (@QueryBudget) and the stats of the in-process caches from CacheRegistry.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+
+    public MetricsConfig(QueryBudgetInterceptor queryBudgetInterceptor) {
+        this.queryBudgetInterceptor = queryBudgetInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryBudgetInterceptor);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsCustomizer() {
+        RequestStatisticsListener listener = new RequestStatisticsListener();
+        Integrator integrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                  SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry listeners =
+                    sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+                listeners.appendListeners(EventType.POST_LOAD, listener);
+                listeners.appendListeners(EventType.INIT_COLLECTION, listener);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                     SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, listener);
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(integrator));
+        };
+    }
+
+    /**
+     * cache.gets / cache.evictions / cache.size for every BoundedTtlCache, read
+     * from the cache's own counters at scrape time
+     */
+    @Bean
+    public MeterBinder cacheRegistryMetrics(CacheRegistry cacheRegistry) {
+        return registry -> cacheRegistry.getCaches().forEach(cache -> bind(registry, cache));
+    }
+
+    private static void bind(MeterRegistry registry, BoundedTtlCache<?, ?> cache) {
+        Tags tags = Tags.of("cache", cache.getName());
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().getHits())
+            .tags(tags).tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().getMisses())
+            .tags(tags).tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> c.stats().getEvictions())
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("cache.size", cache, c -> c.stats().getSize())
+            .tags(tags)
+            .register(registry);
+    }
+}
@@ -46,6 +46,8 @@ public class SecurityConfig {
             .sessionManagement(session ->
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Actuator (health, metrics, prometheus) - only served on the local management port
+                .requestMatchers("/actuator/**").permitAll()
                 // Swagger / OpenAPI endpoints
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 // Public endpoints
@@ -53,7 +55,8 @@ public class SecurityConfig {
                 // Semi-public endpoints (users GET endpoints)
                 .requestMatchers(HttpMethod.GET, "/api/users", "/api/users/*").permitAll()
                 // Semi-public endpoints (projects GET endpoints - auth is optional)
-                .requestMatchers(HttpMethod.GET, "/api/projects", "/api/projects/*").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/projects", "/api/projects/*", "/api/projects/*/changes",
+                    "/api/projects/*/events").permitAll()
                 // Semi-public endpoints (issues and comments GET endpoints)
                 .requestMatchers(HttpMethod.GET, "/api/issues", "/api/issues/*").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/comments", "/api/comments/*", "/api/comments/issue/*").permitAll()
@@ -0,0 +1,359 @@
+package com.jiraclone.config;
+
+import com.jiraclone.domain.enums.IssuePriority;
+import com.jiraclone.domain.enums.IssueStatus;
+import com.jiraclone.domain.enums.IssueType;
+import com.jiraclone.domain.enums.ProjectCategory;
+import com.jiraclone.domain.enums.ProjectRole;
+import com.jiraclone.domain.enums.UserRole;
+import com.jiraclone.domain.rank.LexoRank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Large synthetic dataset for performance environments (seed.data.scale.*).
+ *
+ * Users are written first; then each project is seeded by its own task on a pool of
+ * seed.data.scale.threads workers: project, permissions, then issues with their
+ * assignments and comments using multi-row INSERTs, one transaction per chunk of
+ * batch-size issues. Every project draws from a Random seeded with random-seed and the
+ * project index, and timestamps start at a fixed date, so the same settings always
+ * produce the same rows regardless of thread scheduling.
+ *
+ * The load test (src/loadtest) seeds its dataset through {@link #seed(int, int, int, int, long)}.
+ */
+@Slf4j
+@Component
+public class SyntheticDataSeeder {
+
+    private static final String[] WORDS = {
+        "login", "payment", "dashboard", "report", "export", "import", "search", "board",
+        "sprint", "release", "crash", "timeout", "cache", "mobile", "api", "email",
+        "notification", "profile", "settings", "invoice", "upload", "permission", "filter", "sync",
+        "checkout", "onboarding", "billing", "audit", "webhook", "migration", "session", "token"
+    };
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    // MySQL allows at most 65535 placeholders per statement; issues have 17 columns
+    private static final int MAX_ROWS_PER_STATEMENT = 3000;
+
+    private static final String USER_COLUMNS = "id, name, email, password, role, avatar_url, created_at, updated_at";
+    private static final String PROJECT_COLUMNS =
+        "id, `key`, issue_counter, name, url, description, category, is_public, created_at, updated_at";
+    private static final String PERMISSION_COLUMNS = "id, user_id, project_id, role, created_at, updated_at";
+    private static final String ISSUE_COLUMNS =
+        "id, `key`, title, type, status, priority, list_position, list_rank, description, estimate, " +
+        "time_spent, time_remaining, reporter_id, project_id, parent_issue_id, created_at, updated_at";
+    private static final String ASSIGNMENT_COLUMNS = "user_id, issue_id";
+    private static final String COMMENT_COLUMNS = "id, body, issue_id, user_id, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final int projects;
+    private final int issuesPerProject;
+    private final int commentsPerIssue;
+    private final int users;
+    private final long randomSeed;
+    private final int threads;
+    private final int batchSize;
+
+    public SyntheticDataSeeder(JdbcTemplate jdbcTemplate,
+                               PasswordEncoder passwordEncoder,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${seed.data.scale.projects:100}") int projects,
+                               @Value("${seed.data.scale.issues-per-project:10000}") int issuesPerProject,
+                               @Value("${seed.data.scale.comments-per-issue:5}") int commentsPerIssue,
+                               @Value("${seed.data.scale.users:200}") int users,
+                               @Value("${seed.data.scale.random-seed:42}") long randomSeed,
+                               @Value("${seed.data.scale.threads:8}") int threads,
+                               @Value("${seed.data.scale.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.projects = projects;
+        this.issuesPerProject = issuesPerProject;
+        this.commentsPerIssue = commentsPerIssue;
+        this.users = Math.max(users, 1);
+        this.randomSeed = randomSeed;
+        this.threads = Math.max(threads, 1);
+        this.batchSize = Math.min(Math.max(batchSize, 1), MAX_ROWS_PER_STATEMENT);
+    }
+
+    /**
+     * Seed the dataset sized by seed.data.scale.*
+     */
+    public Dataset seed() throws InterruptedException, ExecutionException {
+        return seed(projects, issuesPerProject, commentsPerIssue, users, randomSeed);
+    }
+
+    /**
+     * Seed a dataset of the given size; threads and batch size still come from seed.data.scale.*
+     */
+    public Dataset seed(int projects, int issuesPerProject, int commentsPerIssue, int users, long randomSeed)
+            throws InterruptedException, ExecutionException {
+        Scale scale = new Scale(issuesPerProject, commentsPerIssue, Math.max(users, 1), randomSeed);
+        long start = System.nanoTime();
+        log.info("Seeding synthetic dataset: {} projects x {} issues x ~{} comments, {} users, {} threads",
+            projects, issuesPerProject, commentsPerIssue, users, threads);
+
+        List<String> userIds = transactionTemplate.execute(status -> insertUsers(scale));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+            runnable -> new Thread(runnable, "seed-worker-" + threadCount.incrementAndGet()));
+        long issues = 0;
+        long comments = 0;
+        List<SeededProject> seededProjects = new ArrayList<>(projects);
+        try {
+            List<Future<SeededProject>> futures = new ArrayList<>(projects);
+            for (int p = 0; p < projects; p++) {
+                int projectIndex = p;
+                futures.add(executor.submit(() -> seedProject(projectIndex, userIds, scale)));
+            }
+            for (Future<SeededProject> future : futures) {
+                SeededProject project = future.get();
+                seededProjects.add(project);
+                issues += project.getIssues();
+                comments += project.getComments();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long durationMs = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        log.info("Synthetic dataset seeded: {} users, {} projects, {} issues, {} comments in {} s ({} rows/s)",
+            userIds.size(), projects, issues, comments, durationMs / 1000,
+            (issues + comments) * 1000 / durationMs);
+        return new Dataset(userIds, seededProjects);
+    }
+
+    private List<String> insertUsers(Scale scale) {
+        int users = scale.users;
+        Random random = new Random(scale.randomSeed);
+        // BCrypt is slow on purpose; all seed users share the password "password"
+        String passwordHash = passwordEncoder.encode("password");
+
+        List<String> userIds = new ArrayList<>(users);
+        List<Object[]> rows = new ArrayList<>(users);
+        Timestamp createdAt = Timestamp.valueOf(EPOCH);
+        for (int i = 0; i < users; i++) {
+            String id = uuid(random);
+            userIds.add(id);
+            rows.add(new Object[] {
+                id, "Seed User " + i, "user" + i + "@seed.local", passwordHash,
+                (i == 0 ? UserRole.ADMIN : UserRole.USER).name(),
+                "https://i.pravatar.cc/150?u=" + i, createdAt, createdAt
+            });
+        }
+        insertRows("users", USER_COLUMNS, rows);
+        return userIds;
+    }
+
+    /**
+     * Seed one project
+     */
+    private SeededProject seedProject(int projectIndex, List<String> userIds, Scale scale) {
+        int issuesPerProject = scale.issuesPerProject;
+        int commentsPerIssue = scale.commentsPerIssue;
+        Random random = new Random(scale.randomSeed * 1_000_003L + projectIndex);
+        String projectId = uuid(random);
+        String projectKey = "SEED" + projectIndex;
+        LocalDateTime projectCreatedAt = EPOCH.plusHours(projectIndex);
+
+        // 5 to 30 members, the first one is the project admin
+        List<String> members = new ArrayList<>(userIds);
+        Collections.shuffle(members, random);
+        members = members.subList(0, Math.min(members.size(), 5 + random.nextInt(26)));
+
+        List<Object[]> permissionRows = new ArrayList<>(members.size());
+        for (int m = 0; m < members.size(); m++) {
+            permissionRows.add(new Object[] {
+                uuid(random), members.get(m), projectId, (m == 0 ? ProjectRole.ADMIN : ProjectRole.MEMBER).name(),
+                Timestamp.valueOf(projectCreatedAt), Timestamp.valueOf(projectCreatedAt)
+            });
+        }
+        Object[] projectRow = {
+            projectId, projectKey, issuesPerProject, "Seed Project " + projectIndex, null,
+            "Synthetic project " + projectIndex + ": " + sentence(random, 12),
+            ProjectCategory.values()[random.nextInt(ProjectCategory.values().length)].name(),
+            projectIndex % 2 == 0, Timestamp.valueOf(projectCreatedAt), Timestamp.valueOf(projectCreatedAt)
+        };
+        transactionTemplate.executeWithoutResult(status -> {
+            insertRows("projects", PROJECT_COLUMNS, List.<Object[]>of(projectRow));
+            insertRows("permissions", PERMISSION_COLUMNS, permissionRows);
+        });
+
+        int[] nextPosition = new int[IssueStatus.values().length];
+        List<String> parentCandidates = new ArrayList<>();
+        long comments = 0;
+
+        for (int from = 0; from < issuesPerProject; from += batchSize) {
+            int to = Math.min(from + batchSize, issuesPerProject);
+            List<Object[]> issueRows = new ArrayList<>(to - from);
+            List<Object[]> assignmentRows = new ArrayList<>();
+            List<Object[]> commentRows = new ArrayList<>();
+
+            for (int i = from; i < to; i++) {
+                String issueId = uuid(random);
+                LocalDateTime createdAt = projectCreatedAt.plusMinutes(i);
+                LocalDateTime updatedAt = createdAt.plusHours(random.nextInt(72));
+
+                // About one issue in ten is a subtask of an earlier top-level issue
+                String parentId = null;
+                IssueType type;
+                if (!parentCandidates.isEmpty() && random.nextInt(10) == 0) {
+                    parentId = parentCandidates.get(random.nextInt(parentCandidates.size()));
+                    type = IssueType.SUBTASK;
+                } else {
+                    type = IssueType.values()[random.nextInt(IssueType.SUBTASK.ordinal())];
+                    parentCandidates.add(issueId);
+                }
+
+                IssueStatus status = IssueStatus.values()[random.nextInt(IssueStatus.values().length)];
+                int position = nextPosition[status.ordinal()]++;
+                int estimate = random.nextInt(16);
+                int timeSpent = random.nextInt(estimate + 1);
+
+                issueRows.add(new Object[] {
+                    issueId, projectKey + "-" + (i + 1), capitalize(sentence(random, 3 + random.nextInt(5))),
+                    type.name(), status.name(),
+                    IssuePriority.values()[random.nextInt(IssuePriority.values().length)].name(),
+                    position, LexoRank.forPosition(position),
+                    "<p>" + sentence(random, 20 + random.nextInt(60)) + "</p>",
+                    estimate, timeSpent, estimate - timeSpent,
+                    members.get(random.nextInt(members.size())), projectId, parentId,
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt)
+                });
+
+                // 0 to 2 distinct assignees
+                int assignees = Math.min(random.nextInt(3), members.size());
+                int firstAssignee = random.nextInt(members.size());
+                for (int a = 0; a < assignees; a++) {
+                    assignmentRows.add(new Object[] { members.get((firstAssignee + a) % members.size()), issueId });
+                }
+
+                int commentCount = random.nextInt(2 * commentsPerIssue + 1);
+                for (int c = 0; c < commentCount; c++) {
+                    Timestamp commentedAt = Timestamp.valueOf(createdAt.plusMinutes(c + 1L));
+                    commentRows.add(new Object[] {
+                        uuid(random), sentence(random, 5 + random.nextInt(30)), issueId,
+                        members.get(random.nextInt(members.size())), commentedAt, commentedAt
+                    });
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                insertRows("issues", ISSUE_COLUMNS, issueRows);
+                insertRows("issue_users", ASSIGNMENT_COLUMNS, assignmentRows);
+                insertRows("comments", COMMENT_COLUMNS, commentRows);
+            });
+            comments += commentRows.size();
+        }
+
+        log.info("Seeded project {} ({}): {} issues, {} comments", projectKey, projectId, issuesPerProject, comments);
+        return new SeededProject(projectId, List.copyOf(members), issuesPerProject, comments);
+    }
+
+    /**
+     * Insert rows with multi-row INSERT statements of up to batch-size rows each
+     */
+    private void insertRows(String table, String columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int columnCount = rows.get(0).length;
+        String placeholders = "(" + "?, ".repeat(columnCount - 1) + "?)";
+
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, rows.size());
+            StringBuilder sql = new StringBuilder(64 + (to - from) * placeholders.length())
+                .append("INSERT INTO ").append(table).append(" (").append(columns).append(") VALUES ");
+            Object[] args = new Object[(to - from) * columnCount];
+            for (int r = from; r < to; r++) {
+                if (r > from) {
+                    sql.append(", ");
+                }
+                sql.append(placeholders);
+                System.arraycopy(rows.get(r), 0, args, (r - from) * columnCount, columnCount);
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+
+    public static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    public static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(word(random));
+        }
+        return text.toString();
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private static String uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private static final class Scale {
+        private final int issuesPerProject;
+        private final int commentsPerIssue;
+        private final int users;
+        private final long randomSeed;
+
+        private Scale(int issuesPerProject, int commentsPerIssue, int users, long randomSeed) {
+            this.issuesPerProject = issuesPerProject;
+            this.commentsPerIssue = commentsPerIssue;
+            this.users = users;
+            this.randomSeed = randomSeed;
+        }
+    }
+
+    /**
+     * Ids of what was seeded (issue ids are not kept, the dataset may be large)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Dataset {
+        private final List<String> userIds;
+        private final List<SeededProject> projects;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SeededProject {
+        private final String id;
+        /** Members, the first one is the project admin */
+        private final List<String> memberIds;
+        private final long issues;
+        private final long comments;
+    }
+}
@@ -0,0 +1,62 @@
+package com.jiraclone.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Settings that only apply when spring.threads.virtual.enabled is true.
+ *
+ * Spring Boot then serves requests, async MVC work (streamed exports) and scheduled
+ * tasks on virtual threads; import jobs follow the same flag (see ImportJobService).
+ * Request concurrency is no longer capped by the Tomcat thread pool, so database
+ * access is capped here instead, by default at the Hikari pool size.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${datasource.concurrency-limit.permits:0}") int permits,
+            @Value("${datasource.concurrency-limit.acquire-timeout-ms:5000}") long acquireTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int limit = permits > 0 ? permits : hikari.getMaximumPoolSize();
+                    log.info("Virtual threads enabled: at most {} concurrent database connections", limit);
+                    return new ConnectionLimitingDataSource(hikari, limit, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Callers waiting for a permit and permits left, next to Hikari's own pool meters
+     */
+    @Bean
+    MeterBinder connectionLimitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limiter) {
+                Gauge.builder("datasource.concurrency.limit.waiting", limiter,
+                        ConnectionLimitingDataSource::getQueueLength)
+                    .register(registry);
+                Gauge.builder("datasource.concurrency.limit.available", limiter,
+                        ConnectionLimitingDataSource::getAvailablePermits)
+                    .register(registry);
+            }
+        };
+    }
+}
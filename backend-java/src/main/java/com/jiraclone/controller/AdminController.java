@@ -1,16 +1,31 @@
 package com.jiraclone.controller;
 
+import com.jiraclone.cache.CacheRegistry;
+import com.jiraclone.cache.CacheStats;
+import com.jiraclone.cache.SecondLevelCacheStats;
 import com.jiraclone.domain.enums.UserRole;
 import com.jiraclone.exception.ForbiddenException;
+import com.jiraclone.realtime.ProjectEventBroadcaster;
 import com.jiraclone.security.UserPrincipal;
+import com.jiraclone.dto.response.ImportJobResponse;
+import com.jiraclone.dto.response.ProjectPurgeResponse;
+import com.jiraclone.service.ImportJob;
+import com.jiraclone.service.ImportJobService;
 import com.jiraclone.service.ProjectImportService;
+import com.jiraclone.service.ProjectPurgeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -20,19 +35,67 @@ import java.util.Map;
 public class AdminController {
 
     private final ProjectImportService projectImportService;
+    private final ImportJobService importJobService;
+    private final ProjectPurgeService projectPurgeService;
+    private final CacheRegistry cacheRegistry;
+    private final SecondLevelCacheStats secondLevelCacheStats;
+    private final ProjectEventBroadcaster projectEventBroadcaster;
 
-    @Operation(summary = "Import a project from a JSON seed file in classpath data/")
-    @PostMapping("/import-project")
-    public ResponseEntity<Map<String, Object>> importProject(
+    @Operation(summary = "Start a background import of a JSON seed file in classpath data/")
+    @PostMapping(value = "/import-project", params = "file")
+    public ResponseEntity<ImportJobResponse> importProject(
             @RequestParam String file,
             @AuthenticationPrincipal UserPrincipal currentUser) {
         requireAdmin(currentUser);
 
-        Map<String, Object> result = projectImportService.importProject(file, currentUser.getId());
-        return ResponseEntity.ok(result);
+        ImportJob job = importJobService.submitSeedFile(file, currentUser.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ImportJobResponse.from(job));
+    }
+
+    @Operation(summary = "Start a background import of an uploaded JSON file (plain or gzip)")
+    @PostMapping(value = "/import-project", params = "!file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> importProjectUpload(
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal UserPrincipal currentUser) throws IOException {
+        requireAdmin(currentUser);
+
+        ImportJob job = importJobService.submitUpload(file, currentUser.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ImportJobResponse.from(job));
+    }
+
+    @Operation(summary = "Start a background import of a JSON request body (plain or gzip)")
+    @PostMapping(value = "/import-project", params = "!file",
+                 consumes = { MediaType.APPLICATION_JSON_VALUE, "application/gzip", MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<ImportJobResponse> importProjectStream(
+            InputStream body,
+            @AuthenticationPrincipal UserPrincipal currentUser) throws IOException {
+        requireAdmin(currentUser);
+
+        ImportJob job = importJobService.submitUpload(body, "request body", currentUser.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ImportJobResponse.from(job));
+    }
+
+    @Operation(summary = "Status, progress and result of an import job")
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ImportJobResponse> getJob(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        requireAdmin(currentUser);
+
+        return ResponseEntity.ok(ImportJobResponse.from(importJobService.getJob(id)));
+    }
+
+    @Operation(summary = "Cancel a queued or running import job")
+    @PostMapping("/jobs/{id}/cancel")
+    public ResponseEntity<ImportJobResponse> cancelJob(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        requireAdmin(currentUser);
+
+        return ResponseEntity.ok(ImportJobResponse.from(importJobService.cancel(id)));
     }
 
-    @Operation(summary = "Delete an imported project and all its issues")
+    @Operation(summary = "Delete an imported project; its issues are purged in the background")
     @DeleteMapping("/import-project/{projectId}")
     public ResponseEntity<Map<String, Object>> deleteProject(
             @PathVariable String projectId,
@@ -43,6 +106,46 @@ public class AdminController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "Progress of background purges of deleted projects")
+    @GetMapping("/purges")
+    public ResponseEntity<List<ProjectPurgeResponse>> getPurges(
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        requireAdmin(currentUser);
+
+        return ResponseEntity.ok(projectPurgeService.getPurges().stream()
+            .map(ProjectPurgeResponse::from)
+            .toList());
+    }
+
+    @Operation(summary = "Hit/miss statistics of the in-process caches")
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStats>> getCacheStats(
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        requireAdmin(currentUser);
+
+        return ResponseEntity.ok(cacheRegistry.stats());
+    }
+
+    @Operation(summary = "Per-region hit/miss statistics of the Hibernate second-level and query caches")
+    @GetMapping("/caches/second-level")
+    public ResponseEntity<List<CacheStats>> getSecondLevelCacheStats(
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        requireAdmin(currentUser);
+
+        return ResponseEntity.ok(secondLevelCacheStats.stats());
+    }
+
+    @Operation(summary = "Open event streams and subscribers dropped as too slow")
+    @GetMapping("/event-streams")
+    public ResponseEntity<Map<String, Object>> getEventStreamStats(
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        requireAdmin(currentUser);
+
+        return ResponseEntity.ok(Map.of(
+            "subscribers", projectEventBroadcaster.getSubscriberCount(),
+            "droppedSubscribers", projectEventBroadcaster.getDroppedSubscribers()));
+    }
+
     private void requireAdmin(UserPrincipal currentUser) {
         if (currentUser == null || currentUser.getRole() != UserRole.ADMIN) {
             throw new ForbiddenException("Admin access required");
@@ -2,6 +2,7 @@ package com.jiraclone.controller;
 
 import com.jiraclone.dto.request.CommentRequest;
 import com.jiraclone.dto.response.CommentResponse;
+import com.jiraclone.dto.response.CursorPage;
 import com.jiraclone.security.UserPrincipal;
 import com.jiraclone.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,9 +13,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -33,6 +36,15 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    @Operation(summary = "Stream all comments as newline-delimited JSON")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllComments() {
+        StreamingResponseBody body = commentService::streamAllComments;
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     @Operation(summary = "Get comments by issue ID (non-paginated)")
     @GetMapping("/issue/{issueId}")
     public ResponseEntity<List<CommentResponse>> getCommentsByIssueId(
@@ -50,6 +62,16 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    @Operation(summary = "Get comments by issue ID (keyset-paginated, pass an empty cursor for the first page)")
+    @GetMapping(value = "/issue/{issueId}", params = "cursor")
+    public ResponseEntity<CursorPage<CommentResponse>> getCommentsByIssueIdByCursor(
+            @PathVariable String issueId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<CommentResponse> comments = commentService.getCommentsByIssueId(issueId, cursor, size);
+        return ResponseEntity.ok(comments);
+    }
+
     @Operation(summary = "Get comment by ID")
     @GetMapping("/{id}")
     public ResponseEntity<CommentResponse> getCommentById(@PathVariable String id) {
@@ -2,7 +2,9 @@ package com.jiraclone.controller;
 
 import com.jiraclone.dto.request.ConvertToSubtaskRequest;
 import com.jiraclone.dto.request.IssueRequest;
+import com.jiraclone.dto.response.CursorPage;
 import com.jiraclone.dto.response.IssueResponse;
+import com.jiraclone.metrics.QueryBudget;
 import com.jiraclone.security.UserPrincipal;
 import com.jiraclone.service.IssueService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,9 +15,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -29,11 +33,21 @@ public class IssueController {
 
     @Operation(summary = "Get all issues (non-paginated)")
     @GetMapping
+    @QueryBudget(10)
     public ResponseEntity<List<IssueResponse>> getAllIssues() {
         List<IssueResponse> issues = issueService.getAllIssues();
         return ResponseEntity.ok(issues);
     }
 
+    @Operation(summary = "Stream all issues as newline-delimited JSON")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllIssues() {
+        StreamingResponseBody body = issueService::streamAllIssues;
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     @Operation(summary = "Get all issues (paginated)")
     @GetMapping(params = "page")
     public ResponseEntity<Page<IssueResponse>> getAllIssuesPaginated(
@@ -42,12 +56,24 @@ public class IssueController {
         return ResponseEntity.ok(issues);
     }
 
-    @Operation(summary = "Search issues by title or description")
+    @Operation(summary = "Get all issues (keyset-paginated, pass an empty cursor for the first page)")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<IssueResponse>> getAllIssuesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<IssueResponse> issues = issueService.getAllIssues(cursor, size);
+        return ResponseEntity.ok(issues);
+    }
+
+    @Operation(summary = "Search issues by key, title or description (ranked by relevance)")
     @GetMapping("/search")
+    @QueryBudget(10)
     public ResponseEntity<List<IssueResponse>> searchIssues(
             @RequestParam String term,
-            @RequestParam(required = false) String projectId) {
-        List<IssueResponse> issues = issueService.searchIssues(term, projectId);
+            @RequestParam(required = false) String projectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        List<IssueResponse> issues = issueService.searchIssues(term, projectId, page, size);
         return ResponseEntity.ok(issues);
     }
 
@@ -1,9 +1,18 @@
 package com.jiraclone.controller;
 
+import com.jiraclone.dto.request.BoardMovesRequest;
 import com.jiraclone.dto.request.ProjectRequest;
+import com.jiraclone.dto.response.BoardMoveResponse;
+import com.jiraclone.dto.response.ProjectBoardResponse;
+import com.jiraclone.dto.response.ProjectChangesResponse;
 import com.jiraclone.dto.response.ProjectDetailResponse;
 import com.jiraclone.dto.response.ProjectResponse;
+import com.jiraclone.dto.response.StreamTokenResponse;
+import com.jiraclone.metrics.QueryBudget;
+import com.jiraclone.realtime.ProjectEventBroadcaster;
 import com.jiraclone.security.UserPrincipal;
+import com.jiraclone.service.IssueService;
+import com.jiraclone.service.ProjectExportService;
 import com.jiraclone.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,11 +21,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -26,6 +41,9 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final IssueService issueService;
+    private final ProjectEventBroadcaster projectEventBroadcaster;
+    private final ProjectExportService projectExportService;
 
     @Operation(summary = "Get all accessible projects (non-paginated)")
     @GetMapping
@@ -46,6 +64,7 @@ public class ProjectController {
 
     @Operation(summary = "Get project details by ID")
     @GetMapping("/{id}")
+    @QueryBudget(10)
     public ResponseEntity<ProjectDetailResponse> getProjectById(
             @PathVariable String id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
@@ -53,6 +72,70 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    @Operation(summary = "Get project board (lightweight issue cards, no comments or descriptions)")
+    @GetMapping(value = "/{id}", params = "view=board")
+    public ResponseEntity<ProjectBoardResponse> getProjectBoard(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        ProjectBoardResponse board = projectService.getProjectBoard(id, currentUser);
+        return ResponseEntity.ok(board);
+    }
+
+    @Operation(summary = "Get issues, comments and members changed since a cursor")
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<ProjectChangesResponse> getProjectChanges(
+            @PathVariable String id,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        ProjectChangesResponse changes = projectService.getProjectChanges(id, since, currentUser);
+        return ResponseEntity.ok(changes);
+    }
+
+    @Operation(summary = "Issue a short-lived token for opening the project's event stream (stream_token parameter)")
+    @PostMapping("/{id}/events/token")
+    public ResponseEntity<StreamTokenResponse> createEventStreamToken(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        StreamTokenResponse token = projectService.createEventStreamToken(id, currentUser);
+        return ResponseEntity.ok(token);
+    }
+
+    @Operation(summary = "Stream issue and comment changes of a project (Server-Sent Events)")
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProjectEvents(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        projectService.checkProjectReadAccess(id, currentUser);
+        return projectEventBroadcaster.subscribe(id, currentUser != null ? currentUser.getId() : null);
+    }
+
+    @Operation(summary = "Export a project with its issues, comments and members (import format)")
+    @GetMapping("/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportProject(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        projectService.checkProjectReadAccess(id, currentUser);
+
+        StreamingResponseBody body = outputStream -> projectExportService.exportProject(id, outputStream, gzip);
+        String fileName = "project-" + id + (gzip ? ".json.gz" : ".json");
+        return ResponseEntity.ok()
+            .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .body(body);
+    }
+
+    @Operation(summary = "Move issues on the board (status and position) in one batch")
+    @PostMapping("/{id}/board/moves")
+    public ResponseEntity<List<BoardMoveResponse>> moveIssues(
+            @PathVariable String id,
+            @Valid @RequestBody BoardMovesRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        List<BoardMoveResponse> moved = issueService.moveIssues(id, request, currentUser);
+        return ResponseEntity.ok(moved);
+    }
+
     @Operation(summary = "Create a new project")
     @PostMapping
     public ResponseEntity<ProjectResponse> createProject(
@@ -72,12 +155,12 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
-    @Operation(summary = "Delete a project")
+    @Operation(summary = "Delete a project (its issues are purged in the background)")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(
             @PathVariable String id,
             @AuthenticationPrincipal UserPrincipal currentUser) {
         projectService.deleteProject(id, currentUser);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().build();
     }
 }
@@ -7,7 +7,8 @@ import org.hibernate.annotations.GenericGenerator;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+    indexes = @Index(name = "idx_comments_issue_created", columnList = "issue_id, created_at, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
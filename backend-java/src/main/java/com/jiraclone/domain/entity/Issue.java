@@ -3,6 +3,7 @@ package com.jiraclone.domain.entity;
 import com.jiraclone.domain.enums.IssueType;
 import com.jiraclone.domain.enums.IssueStatus;
 import com.jiraclone.domain.enums.IssuePriority;
+import com.jiraclone.domain.rank.LexoRank;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
@@ -12,7 +13,14 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "issues")
+@Table(name = "issues", indexes = {
+    @Index(name = "idx_issues_project_status_rank", columnList = "project_id, status, list_rank"),
+    @Index(name = "idx_issues_project_position", columnList = "project_id, list_position"),
+    @Index(name = "idx_issues_project_updated", columnList = "project_id, updated_at"),
+    @Index(name = "idx_issues_project_id", columnList = "project_id, id"),
+    @Index(name = "idx_issues_parent", columnList = "parent_issue_id"),
+    @Index(name = "idx_issues_position_id", columnList = "list_position, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,6 +55,10 @@ public class Issue {
     @Builder.Default
     private Integer listPosition = 0;
 
+    // Board order within a column; see LexoRank. Nullable until old rows are backfilled.
+    @Column(name = "list_rank", length = 64)
+    private String listRank;
+
     @Column(columnDefinition = "MEDIUMTEXT")
     private String description;
 
@@ -114,6 +126,9 @@ public class Issue {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (listRank == null) {
+            listRank = LexoRank.forPosition(listPosition != null ? listPosition : 0);
+        }
     }
 
     @PreUpdate
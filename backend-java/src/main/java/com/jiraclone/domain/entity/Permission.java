@@ -3,13 +3,18 @@ package com.jiraclone.domain.entity;
 import com.jiraclone.domain.enums.ProjectRole;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "permissions",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "project_id"}))
+    uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "project_id"}),
+    indexes = @Index(name = "idx_permissions_project_updated", columnList = "project_id, updated_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -3,6 +3,8 @@ package com.jiraclone.domain.entity;
 import com.jiraclone.domain.enums.ProjectCategory;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 
 import java.time.LocalDateTime;
@@ -10,7 +12,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "projects",
+    indexes = @Index(name = "idx_projects_deletion_requested", columnList = "deletion_requested_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +31,8 @@ public class Project {
     @Column(name = "`key`", nullable = false, unique = true, length = 10)
     private String key;
 
-    @Column(name = "issue_counter", nullable = false)
+    // Only moved by ProjectRepository.incrementIssueCounterBy; a cached copy may be stale
+    @Column(name = "issue_counter", nullable = false, updatable = false)
     @Builder.Default
     private Integer issueCounter = 0;
 
@@ -53,6 +59,10 @@ public class Project {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Set once deletion was requested; the rows are then purged in the background
+    @Column(name = "deletion_requested_at")
+    private LocalDateTime deletionRequestedAt;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     @ToString.Exclude
@@ -65,6 +75,10 @@ public class Project {
     @EqualsAndHashCode.Exclude
     private Set<Permission> permissions = new HashSet<>();
 
+    public boolean isDeleting() {
+        return deletionRequestedAt != null;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
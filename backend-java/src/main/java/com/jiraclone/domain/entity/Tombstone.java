@@ -0,0 +1,50 @@
+package com.jiraclone.domain.entity;
+
+import com.jiraclone.domain.enums.ChangeEntityType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted issue, comment or permission, so that
+ * incremental board sync can tell clients what to remove.
+ */
+@Entity
+@Table(name = "tombstones",
+    indexes = {
+        @Index(name = "idx_tombstones_project_deleted", columnList = "project_id, deleted_at"),
+        @Index(name = "idx_tombstones_deleted", columnList = "deleted_at")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Tombstone {
+
+    @Id
+    @GeneratedValue(generator = "uuid")
+    @GenericGenerator(name = "uuid", strategy = "uuid2")
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private ChangeEntityType entityType;
+
+    // For PERMISSION tombstones this is the user id of the removed member
+    @Column(name = "entity_id", nullable = false, length = 36)
+    private String entityId;
+
+    @Column(name = "project_id", nullable = false, length = 36)
+    private String projectId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = LocalDateTime.now();
+    }
+}
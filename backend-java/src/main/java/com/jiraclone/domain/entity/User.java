@@ -3,6 +3,8 @@ package com.jiraclone.domain.entity;
 import com.jiraclone.domain.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 
 import java.time.LocalDateTime;
@@ -10,6 +12,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
 @Data
 @NoArgsConstructor
@@ -56,7 +60,8 @@ public class User {
     @JoinTable(
         name = "issue_users",
         joinColumns = @JoinColumn(name = "user_id"),
-        inverseJoinColumns = @JoinColumn(name = "issue_id")
+        inverseJoinColumns = @JoinColumn(name = "issue_id"),
+        indexes = @Index(name = "idx_issue_users_issue", columnList = "issue_id, user_id")
     )
     @Builder.Default
     @ToString.Exclude
@@ -0,0 +1,17 @@
+package com.jiraclone.domain.enums;
+
+public enum ChangeEntityType {
+    ISSUE("issue"),
+    COMMENT("comment"),
+    PERMISSION("permission");
+
+    private final String value;
+
+    ChangeEntityType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,91 @@
+package com.jiraclone.domain.rank;
+
+/**
+ * Base-36 fractional order keys ("0-9a-z"), compared as plain strings.
+ *
+ * A key is read as the fraction 0.d1d2d3... so there is always room for another key
+ * between two neighbours: inserting a card rewrites only that card. Generated keys never
+ * end in '0', which keeps string order and numeric order identical.
+ *
+ * Keys derived from integer list positions are fixed width ({@link #forPosition}), so a
+ * column that was only ever ordered by listPosition sorts the same way by rank.
+ */
+public final class LexoRank {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int POSITION_WIDTH = 6;
+    private static final char POSITION_SUFFIX = 'i';
+
+    /** Length of a key produced by {@link #forPosition} */
+    public static final int POSITION_KEY_LENGTH = POSITION_WIDTH + 1;
+
+    private LexoRank() {
+    }
+
+    /**
+     * Key for an integer list position. Order is preserved for 0..36^6-1;
+     * negative positions get the key of position 0.
+     */
+    public static String forPosition(int position) {
+        String digits = Integer.toString(Math.max(position, 0), BASE);
+        StringBuilder key = new StringBuilder(POSITION_KEY_LENGTH);
+        for (int i = digits.length(); i < POSITION_WIDTH; i++) {
+            key.append('0');
+        }
+        return key.append(digits).append(POSITION_SUFFIX).toString();
+    }
+
+    /**
+     * Shortest key strictly between the two keys
+     *
+     * @param before lower bound, or null for the start of the list
+     * @param after  upper bound, or null for the end of the list
+     */
+    public static String between(String before, String after) {
+        String lower = before != null ? before : "";
+        if (after != null && lower.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Rank " + before + " is not before " + after);
+        }
+
+        String upper = after;
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; ; i++) {
+            int low = i < lower.length() ? digit(lower.charAt(i)) : 0;
+            int high = upper != null && i < upper.length() ? digit(upper.charAt(i)) : BASE;
+
+            if (high - low > 1) {
+                return key.append(DIGITS.charAt((low + high) / 2)).toString();
+            }
+            key.append(DIGITS.charAt(low));
+            if (high - low == 1) {
+                // Took the lower digit: anything longer is already below the upper bound
+                upper = null;
+            }
+        }
+    }
+
+    /**
+     * Whether a key from outside (e.g. an import file) is a usable rank: non-empty,
+     * base-36 lowercase digits only and not ending in '0'
+     */
+    public static boolean isValid(String key) {
+        if (key == null || key.isEmpty() || key.charAt(key.length() - 1) == '0') {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digit(char c) {
+        int value = DIGITS.indexOf(c);
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid rank character: " + c);
+        }
+        return value;
+    }
+}
@@ -4,8 +4,15 @@ import com.jiraclone.domain.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +20,27 @@ public interface CommentRepository extends JpaRepository<Comment, String> {
     List<Comment> findByIssueIdOrderByCreatedAtAsc(String issueId);
 
     Page<Comment> findByIssueId(String issueId, Pageable pageable);
+
+    List<Comment> findByIssueIdInOrderByCreatedAtAsc(Collection<String> issueIds);
+
+    @Query("SELECT c FROM Comment c WHERE c.issueId = :issueId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findFirstKeysetPageByIssueId(@Param("issueId") String issueId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c WHERE c.issueId = :issueId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findKeysetPageByIssueIdAfter(@Param("issueId") String issueId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") String id,
+                                               Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.id > :afterId ORDER BY c.id ASC")
+    List<Comment> findWindowAfter(@Param("afterId") String afterId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user " +
+           "WHERE c.issue.projectId = :projectId AND c.updatedAt >= :since " +
+           "ORDER BY c.createdAt ASC")
+    List<Comment> findChangedByProjectId(@Param("projectId") String projectId,
+                                         @Param("since") LocalDateTime since);
 }
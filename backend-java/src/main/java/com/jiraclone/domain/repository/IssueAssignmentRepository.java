@@ -0,0 +1,100 @@
+package com.jiraclone.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Direct access to the issue_users join table.
+ *
+ * The JPA owning side of the assignment is User.assignedIssues, so changing
+ * Issue.assignees is never persisted; assignment rows are written here in
+ * JDBC batches instead, touching only the rows that change.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IssueAssignmentRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<String> findUserIdsByIssueId(String issueId) {
+        return jdbcTemplate.queryForList(
+            "SELECT user_id FROM issue_users WHERE issue_id = ?", String.class, issueId);
+    }
+
+    /**
+     * Assignee ids of many issues, keyed by issue id (issues without assignees are absent)
+     */
+    public Map<String, List<String>> findUserIdsByIssueIds(Collection<String> issueIds) {
+        Map<String, List<String>> userIdsByIssueId = new HashMap<>();
+        if (issueIds.isEmpty()) {
+            return userIdsByIssueId;
+        }
+        namedParameterJdbcTemplate.query(
+            "SELECT issue_id, user_id FROM issue_users WHERE issue_id IN (:ids)",
+            Map.of("ids", issueIds),
+            rs -> {
+                userIdsByIssueId.computeIfAbsent(rs.getString("issue_id"), id -> new ArrayList<>())
+                    .add(rs.getString("user_id"));
+            });
+        return userIdsByIssueId;
+    }
+
+    public void insert(String issueId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO issue_users (user_id, issue_id) VALUES (?, ?)",
+            toRows(issueId, userIds));
+    }
+
+    /**
+     * Assign one user to many issues in a single batch
+     */
+    public void insertForIssues(Collection<String> issueIds, String userId) {
+        if (issueIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(issueIds.size());
+        for (String issueId : issueIds) {
+            rows.add(new Object[] { userId, issueId });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO issue_users (user_id, issue_id) VALUES (?, ?)", rows);
+    }
+
+    /**
+     * Insert the assignees of many issues in a single batch
+     */
+    public void insertAll(Map<String, ? extends Collection<String>> userIdsByIssueId) {
+        List<Object[]> rows = new ArrayList<>();
+        userIdsByIssueId.forEach((issueId, userIds) -> rows.addAll(toRows(issueId, userIds)));
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO issue_users (user_id, issue_id) VALUES (?, ?)", rows);
+    }
+
+    public void delete(String issueId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM issue_users WHERE user_id = ? AND issue_id = ?",
+            toRows(issueId, userIds));
+    }
+
+    private static List<Object[]> toRows(String issueId, Collection<String> userIds) {
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            rows.add(new Object[] { userId, issueId });
+        }
+        return rows;
+    }
+}
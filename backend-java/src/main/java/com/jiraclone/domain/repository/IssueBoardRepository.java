@@ -0,0 +1,134 @@
+package com.jiraclone.domain.repository;
+
+import com.jiraclone.domain.enums.IssueStatus;
+import com.jiraclone.domain.rank.LexoRank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batched JDBC reads and writes for board ordering (status, listPosition, listRank)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IssueBoardRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private static final RowMapper<Placement> PLACEMENT_MAPPER = (rs, rowNum) -> {
+        int listPosition = rs.getInt("list_position");
+        String listRank = rs.getString("list_rank");
+        return new Placement(
+            rs.getString("id"),
+            IssueStatus.valueOf(rs.getString("status")),
+            listPosition,
+            listRank != null ? listRank : LexoRank.forPosition(listPosition));
+    };
+
+    /**
+     * Where an issue sits on the board
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Placement {
+        private String issueId;
+        private IssueStatus status;
+        private int listPosition;
+        private String listRank;
+    }
+
+    /**
+     * Current placements of the given issues of a project, keyed by issue id.
+     * Rows are locked until the transaction ends so a concurrent rebalance cannot
+     * reshuffle the ranks a move is computed from.
+     */
+    public Map<String, Placement> lockPlacements(String projectId, Collection<String> issueIds) {
+        Map<String, Placement> placements = new HashMap<>();
+        if (issueIds.isEmpty()) {
+            return placements;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("projectId", projectId)
+            .addValue("ids", issueIds);
+        namedParameterJdbcTemplate.query(
+            "SELECT id, status, list_position, list_rank FROM issues " +
+            "WHERE project_id = :projectId AND id IN (:ids) FOR UPDATE",
+            params, PLACEMENT_MAPPER)
+            .forEach(placement -> placements.put(placement.getIssueId(), placement));
+        return placements;
+    }
+
+    /**
+     * All placements of one board column in rank order, locked for update
+     */
+    public List<Placement> lockColumn(String projectId, IssueStatus status) {
+        return jdbcTemplate.query(
+            "SELECT id, status, list_position, list_rank FROM issues " +
+            "WHERE project_id = ? AND status = ? " +
+            "ORDER BY list_rank, list_position, id FOR UPDATE",
+            PLACEMENT_MAPPER, projectId, status.name());
+    }
+
+    /**
+     * Columns (projectId, status) holding a rank longer than maxLength
+     */
+    public List<Object[]> findColumnsWithRankLongerThan(int maxLength) {
+        return jdbcTemplate.query(
+            "SELECT DISTINCT project_id, status FROM issues WHERE CHAR_LENGTH(list_rank) > ?",
+            (rs, rowNum) -> new Object[] { rs.getString("project_id"), IssueStatus.valueOf(rs.getString("status")) },
+            maxLength);
+    }
+
+    /**
+     * Ids and list positions of up to limit issues that have no rank yet
+     */
+    public List<Placement> findUnranked(int limit) {
+        return jdbcTemplate.query(
+            "SELECT id, status, list_position, list_rank FROM issues WHERE list_rank IS NULL LIMIT ?",
+            PLACEMENT_MAPPER, limit);
+    }
+
+    /**
+     * Write placements as one batch, bumping updated_at
+     */
+    public void applyPlacements(String projectId, List<Placement> placements, LocalDateTime updatedAt) {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        List<Object[]> rows = new ArrayList<>(placements.size());
+        for (Placement placement : placements) {
+            rows.add(new Object[] {
+                placement.getStatus().name(), placement.getListPosition(), placement.getListRank(),
+                timestamp, placement.getIssueId(), projectId
+            });
+        }
+        jdbcTemplate.batchUpdate(
+            "UPDATE issues SET status = ?, list_position = ?, list_rank = ?, updated_at = ? " +
+            "WHERE id = ? AND project_id = ?",
+            rows);
+    }
+
+    /**
+     * Set ranks on rows that still have none. updated_at is left alone: the
+     * derived rank orders the column exactly as list_position already did.
+     */
+    public void backfillRanks(List<Placement> placements) {
+        List<Object[]> rows = new ArrayList<>(placements.size());
+        for (Placement placement : placements) {
+            rows.add(new Object[] { placement.getListRank(), placement.getIssueId() });
+        }
+        jdbcTemplate.batchUpdate("UPDATE issues SET list_rank = ? WHERE id = ? AND list_rank IS NULL", rows);
+    }
+}
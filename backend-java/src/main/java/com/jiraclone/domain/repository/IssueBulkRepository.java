@@ -0,0 +1,67 @@
+package com.jiraclone.domain.repository;
+
+import com.jiraclone.domain.entity.Comment;
+import com.jiraclone.domain.entity.Issue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC batch inserts of issues and their comments, bypassing the persistence context.
+ * Callers assign ids, keys, list ranks and timestamps themselves; entity callbacks do not run.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IssueBulkRepository {
+
+    private static final String INSERT_ISSUE =
+        "INSERT INTO issues (id, `key`, title, type, status, priority, list_position, list_rank, " +
+        "description, estimate, time_spent, time_remaining, reporter_id, project_id, parent_issue_id, " +
+        "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_COMMENT =
+        "INSERT INTO comments (id, body, issue_id, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Issue> issues) {
+        if (issues.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            rows.add(new Object[] {
+                issue.getId(), issue.getKey(), issue.getTitle(),
+                issue.getType().name(), issue.getStatus().name(), issue.getPriority().name(),
+                issue.getListPosition(), issue.getListRank(), issue.getDescription(),
+                issue.getEstimate(), issue.getTimeSpent(), issue.getTimeRemaining(),
+                issue.getReporterId(), issue.getProjectId(), issue.getParentIssueId(),
+                toTimestamp(issue.getCreatedAt()), toTimestamp(issue.getUpdatedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ISSUE, rows);
+    }
+
+    public void insertComments(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            rows.add(new Object[] {
+                comment.getId(), comment.getBody(), comment.getIssueId(), comment.getUserId(),
+                toTimestamp(comment.getCreatedAt()), toTimestamp(comment.getUpdatedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_COMMENT, rows);
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
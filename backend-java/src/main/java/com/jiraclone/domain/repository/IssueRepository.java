@@ -2,24 +2,33 @@ package com.jiraclone.domain.repository;
 
 import com.jiraclone.domain.entity.Issue;
 import com.jiraclone.domain.enums.IssueStatus;
+import com.jiraclone.dto.response.BoardIssueResponse;
+import com.jiraclone.search.IssueDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, String> {
 
     long countByStatusAndProjectId(IssueStatus status, String projectId);
 
-    List<Issue> findByProjectIdOrderByListPositionAsc(String projectId);
+    long countByProjectId(String projectId);
 
     @Query("SELECT DISTINCT i FROM Issue i " +
            "LEFT JOIN FETCH i.reporter " +
+           "LEFT JOIN FETCH i.parentIssue " +
            "LEFT JOIN FETCH i.assignees " +
            "LEFT JOIN FETCH i.comments c " +
            "LEFT JOIN FETCH c.user " +
@@ -27,12 +36,102 @@ public interface IssueRepository extends JpaRepository<Issue, String> {
            "ORDER BY i.listPosition ASC")
     List<Issue> findByProjectIdWithRelationships(@Param("projectId") String projectId);
 
-    @Query("SELECT i FROM Issue i WHERE " +
+    /**
+     * Initializes the subtasks of the project's issues already loaded in this session;
+     * a separate query so the join above is not multiplied by the subtasks
+     */
+    @Query("SELECT DISTINCT i FROM Issue i LEFT JOIN FETCH i.subtasks WHERE i.projectId = :projectId")
+    List<Issue> fetchSubtasksByProjectId(@Param("projectId") String projectId);
+
+    @Query("SELECT DISTINCT i FROM Issue i " +
+           "LEFT JOIN FETCH i.reporter " +
+           "LEFT JOIN FETCH i.parentIssue " +
+           "LEFT JOIN FETCH i.assignees " +
+           "LEFT JOIN FETCH i.comments c " +
+           "LEFT JOIN FETCH c.user")
+    List<Issue> findAllWithRelationships();
+
+    @Query("SELECT DISTINCT i FROM Issue i LEFT JOIN FETCH i.subtasks")
+    List<Issue> fetchAllSubtasks();
+
+    @Query("SELECT DISTINCT i FROM Issue i " +
+           "LEFT JOIN FETCH i.reporter " +
+           "LEFT JOIN FETCH i.parentIssue " +
+           "LEFT JOIN FETCH i.assignees " +
+           "LEFT JOIN FETCH i.comments c " +
+           "LEFT JOIN FETCH c.user " +
+           "WHERE i.id IN :ids")
+    List<Issue> findAllByIdWithRelationships(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT DISTINCT i FROM Issue i LEFT JOIN FETCH i.subtasks WHERE i.id IN :ids")
+    List<Issue> fetchSubtasksByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT DISTINCT i FROM Issue i " +
+           "LEFT JOIN FETCH i.reporter " +
+           "LEFT JOIN FETCH i.assignees " +
+           "WHERE i.projectId = :projectId AND i.updatedAt >= :since " +
+           "ORDER BY i.listPosition ASC")
+    List<Issue> findChangedByProjectId(@Param("projectId") String projectId,
+                                       @Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.jiraclone.dto.response.BoardIssueResponse(" +
+           "i.id, i.key, i.title, i.type, i.status, i.priority, i.listPosition, i.listRank, " +
+           "i.parentIssueId, (SELECT COUNT(c) FROM Comment c WHERE c.issueId = i.id)) " +
+           "FROM Issue i " +
+           "WHERE i.projectId = :projectId " +
+           "ORDER BY i.listRank ASC, i.listPosition ASC, i.id ASC")
+    List<BoardIssueResponse> findBoardIssuesByProjectId(@Param("projectId") String projectId);
+
+    // Export keyset chunks: parents first, then subtasks, each in id order
+    @Query("SELECT i FROM Issue i WHERE i.projectId = :projectId AND i.parentIssueId IS NULL " +
+           "AND i.id > :afterId ORDER BY i.id ASC")
+    List<Issue> findParentIssueChunk(@Param("projectId") String projectId,
+                                     @Param("afterId") String afterId,
+                                     Pageable pageable);
+
+    @Query("SELECT i FROM Issue i WHERE i.projectId = :projectId AND i.parentIssueId IS NOT NULL " +
+           "AND i.id > :afterId ORDER BY i.id ASC")
+    List<Issue> findSubtaskChunk(@Param("projectId") String projectId,
+                                 @Param("afterId") String afterId,
+                                 Pageable pageable);
+
+    @Query("SELECT i.id FROM Issue i WHERE i.projectId = :projectId AND i.id IN :ids")
+    List<String> findIdsByProjectIdAndIdIn(@Param("projectId") String projectId,
+                                           @Param("ids") Collection<String> ids);
+
+    @Query("SELECT i.projectId FROM Issue i WHERE i.id = :id")
+    Optional<String> findProjectIdById(@Param("id") String id);
+
+    @Query("SELECT i.id, u.id FROM User u JOIN u.assignedIssues i WHERE i.projectId = :projectId")
+    List<Object[]> findAssigneeIdsByProjectId(@Param("projectId") String projectId);
+
+    @Query("SELECT i.id FROM Issue i WHERE " +
            "(LOWER(i.title) LIKE LOWER(CONCAT('%', :term, '%')) OR " +
            "LOWER(i.description) LIKE LOWER(CONCAT('%', :term, '%'))) " +
-           "AND (:projectId IS NULL OR i.projectId = :projectId)")
-    List<Issue> searchByTermAndProjectId(@Param("term") String term,
-                                         @Param("projectId") String projectId);
+           "AND (:projectId IS NULL OR i.projectId = :projectId) " +
+           "ORDER BY i.id ASC")
+    List<String> searchIdsByTermAndProjectId(@Param("term") String term,
+                                             @Param("projectId") String projectId,
+                                             Pageable pageable);
 
     Page<Issue> findAll(Pageable pageable);
+
+    @Query("SELECT i FROM Issue i ORDER BY i.listPosition ASC, i.id ASC")
+    List<Issue> findFirstKeysetPage(Pageable pageable);
+
+    @Query("SELECT i FROM Issue i " +
+           "WHERE i.listPosition > :listPosition OR (i.listPosition = :listPosition AND i.id > :id) " +
+           "ORDER BY i.listPosition ASC, i.id ASC")
+    List<Issue> findKeysetPageAfter(@Param("listPosition") Integer listPosition,
+                                    @Param("id") String id,
+                                    Pageable pageable);
+
+    // Full scans (NDJSON export, search index rebuild) read keyset windows in id order
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.reporter WHERE i.id > :afterId ORDER BY i.id ASC")
+    List<Issue> findWindowAfter(@Param("afterId") String afterId, Pageable pageable);
+
+    @Query("SELECT new com.jiraclone.search.IssueDocument(i.id, i.projectId, i.key, i.title, i.description) " +
+           "FROM Issue i WHERE i.id > :afterId ORDER BY i.id ASC")
+    List<IssueDocument> findSearchDocumentsAfter(@Param("afterId") String afterId, Pageable pageable);
 }
@@ -2,17 +2,23 @@ package com.jiraclone.domain.repository;
 
 import com.jiraclone.domain.entity.Permission;
 import com.jiraclone.domain.enums.ProjectRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PermissionRepository extends JpaRepository<Permission, String> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Permission> findByUserIdAndProjectId(String userId, String projectId);
 
     List<Permission> findByUserId(String userId);
@@ -20,7 +26,16 @@ public interface PermissionRepository extends JpaRepository<Permission, String>
     @Query("SELECT p FROM Permission p LEFT JOIN FETCH p.user WHERE p.projectId = :projectId")
     List<Permission> findByProjectId(@Param("projectId") String projectId);
 
+    @Query("SELECT p FROM Permission p LEFT JOIN FETCH p.user " +
+           "WHERE p.projectId = :projectId AND p.updatedAt >= :since")
+    List<Permission> findChangedByProjectId(@Param("projectId") String projectId,
+                                            @Param("since") LocalDateTime since);
+
     boolean existsByUserIdAndProjectIdAndRole(String userId, String projectId, ProjectRole role);
 
     void deleteByUserIdAndProjectId(String userId, String projectId);
+
+    @Modifying
+    @Query("DELETE FROM Permission p WHERE p.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") String projectId);
 }
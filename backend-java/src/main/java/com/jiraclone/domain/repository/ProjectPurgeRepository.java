@@ -0,0 +1,56 @@
+package com.jiraclone.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded JDBC deletes used to purge a project in the background.
+ *
+ * Each call touches at most one batch of issues (with their comments and
+ * assignments), so every purge transaction stays short and holds few row locks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectPurgeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Next batch of issue ids of the project after the given id; subtasks only when
+     * requested, so they can be removed before the parents they reference
+     */
+    public List<String> findIssueIds(String projectId, boolean subtasksOnly, String afterId, int limit) {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM issues WHERE project_id = ? AND id > ?" +
+                (subtasksOnly ? " AND parent_issue_id IS NOT NULL" : "") +
+                " ORDER BY id LIMIT ?",
+            String.class, projectId, afterId, limit);
+    }
+
+    /**
+     * Delete the issues with their assignments and comments
+     *
+     * @return number of comments deleted
+     */
+    public int deleteIssues(Collection<String> issueIds) {
+        if (issueIds.isEmpty()) {
+            return 0;
+        }
+        Map<String, Object> params = Map.of("ids", issueIds);
+        namedParameterJdbcTemplate.update("DELETE FROM issue_users WHERE issue_id IN (:ids)", params);
+        int comments = namedParameterJdbcTemplate.update("DELETE FROM comments WHERE issue_id IN (:ids)", params);
+        namedParameterJdbcTemplate.update("DELETE FROM issues WHERE id IN (:ids)", params);
+        return comments;
+    }
+
+    public int deleteTombstones(String projectId, int limit) {
+        return jdbcTemplate.update("DELETE FROM tombstones WHERE project_id = ? LIMIT ?", projectId, limit);
+    }
+}
@@ -1,29 +1,35 @@
 package com.jiraclone.domain.repository;
 
 import com.jiraclone.domain.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, String> {
 
+    @Query("SELECT p FROM Project p WHERE p.isPublic = true AND p.deletionRequestedAt IS NULL")
     List<Project> findByIsPublicTrue();
 
-    @Query("SELECT p FROM Project p WHERE p.isPublic = true OR p.id IN " +
-           "(SELECT pm.projectId FROM Permission pm WHERE pm.userId = :userId)")
+    @Query("SELECT p FROM Project p WHERE p.deletionRequestedAt IS NULL AND (p.isPublic = true OR p.id IN " +
+           "(SELECT pm.projectId FROM Permission pm WHERE pm.userId = :userId))")
     List<Project> findAllAccessibleByUser(@Param("userId") String userId);
 
+    @Query("SELECT p FROM Project p WHERE p.isPublic = true AND p.deletionRequestedAt IS NULL")
     Page<Project> findByIsPublicTrue(Pageable pageable);
 
-    @Query("SELECT p FROM Project p WHERE p.isPublic = true OR p.id IN " +
-           "(SELECT pm.projectId FROM Permission pm WHERE pm.userId = :userId)")
+    @Query("SELECT p FROM Project p WHERE p.deletionRequestedAt IS NULL AND (p.isPublic = true OR p.id IN " +
+           "(SELECT pm.projectId FROM Permission pm WHERE pm.userId = :userId))")
     Page<Project> findAllAccessibleByUser(@Param("userId") String userId, Pageable pageable);
 
     boolean existsByKey(String key);
@@ -31,4 +37,31 @@ public interface ProjectRepository extends JpaRepository<Project, String> {
     @Modifying
     @Query("UPDATE Project p SET p.issueCounter = p.issueCounter + 1 WHERE p.id = :projectId")
     void incrementIssueCounter(@Param("projectId") String projectId);
+
+    /**
+     * Native so it can name its query space: a bulk JPQL update (or a native one on
+     * "projects") evicts the whole Project region and the cached queries on projects.
+     * The counter is not updatable through the entity, so cached projects stay valid.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "issue_counter"))
+    @Query(value = "UPDATE projects SET issue_counter = issue_counter + :count WHERE id = :projectId",
+           nativeQuery = true)
+    int incrementIssueCounterBy(@Param("projectId") String projectId, @Param("count") int count);
+
+    @Query("SELECT p.issueCounter FROM Project p WHERE p.id = :projectId")
+    Integer findIssueCounterById(@Param("projectId") String projectId);
+
+    @Query("SELECT p.key FROM Project p WHERE p.id = :projectId")
+    Optional<String> findKeyById(@Param("projectId") String projectId);
+
+    @Query("SELECT p.id FROM Project p WHERE p.deletionRequestedAt IS NOT NULL")
+    List<String> findIdsPendingDeletion();
+
+    /**
+     * Remove the project row only; issues and permissions must already be gone
+     */
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :projectId")
+    int deleteRowById(@Param("projectId") String projectId);
 }
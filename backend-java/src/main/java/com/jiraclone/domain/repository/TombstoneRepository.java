@@ -0,0 +1,21 @@
+package com.jiraclone.domain.repository;
+
+import com.jiraclone.domain.entity.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, String> {
+
+    List<Tombstone> findByProjectIdAndDeletedAtGreaterThanEqual(String projectId, LocalDateTime since);
+
+    @Modifying
+    @Query(value = "DELETE FROM tombstones WHERE deleted_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,35 @@
+package com.jiraclone.dto.request;
+
+import com.jiraclone.domain.enums.IssueStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BoardMovesRequest {
+    @NotEmpty(message = "Moves são obrigatórios")
+    @Size(max = 1000, message = "No máximo 1000 moves por requisição")
+    @Valid
+    private List<Move> moves;
+
+    @Data
+    public static class Move {
+        @NotBlank(message = "Issue ID é obrigatório")
+        private String issueId;
+
+        @NotNull(message = "Status é obrigatório")
+        private IssueStatus status;
+
+        private Integer listPosition;
+
+        // Place between these two issues (either may be omitted at a column end)
+        private String afterIssueId;
+
+        private String beforeIssueId;
+    }
+}
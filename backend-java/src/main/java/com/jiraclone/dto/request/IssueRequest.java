@@ -25,6 +25,11 @@ public class IssueRequest {
 
     private Integer listPosition;
 
+    // Board placement between two issues; takes precedence over listPosition for ordering
+    private String afterIssueId;
+
+    private String beforeIssueId;
+
     private String description;
 
     private Integer estimate;
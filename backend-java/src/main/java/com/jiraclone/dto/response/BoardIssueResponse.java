@@ -0,0 +1,55 @@
+package com.jiraclone.dto.response;
+
+import com.jiraclone.domain.enums.IssuePriority;
+import com.jiraclone.domain.enums.IssueStatus;
+import com.jiraclone.domain.enums.IssueType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Lightweight issue card used by the board view.
+ * Built directly from a JPQL constructor expression, so no entity,
+ * description or comment body is ever loaded.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardIssueResponse {
+    private String id;
+    private String key;
+    private String title;
+    private IssueType type;
+    private IssueStatus status;
+    private IssuePriority priority;
+    private Integer listPosition;
+    private String listRank;
+    private String parentIssueId;
+    private Long commentCount;
+
+    @Builder.Default
+    private Set<String> userIds = new HashSet<>();
+
+    // Used by IssueRepository.findBoardIssuesByProjectId
+    public BoardIssueResponse(String id, String key, String title, IssueType type,
+                              IssueStatus status, IssuePriority priority,
+                              Integer listPosition, String listRank, String parentIssueId,
+                              Long commentCount) {
+        this.id = id;
+        this.key = key;
+        this.title = title;
+        this.type = type;
+        this.status = status;
+        this.priority = priority;
+        this.listPosition = listPosition;
+        this.listRank = listRank;
+        this.parentIssueId = parentIssueId;
+        this.commentCount = commentCount;
+        this.userIds = new HashSet<>();
+    }
+}
@@ -0,0 +1,24 @@
+package com.jiraclone.dto.response;
+
+import com.jiraclone.domain.enums.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * New state of a moved issue; updatedAt is its new version
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardMoveResponse {
+    private String issueId;
+    private IssueStatus status;
+    private Integer listPosition;
+    private String listRank;
+    private LocalDateTime updatedAt;
+}
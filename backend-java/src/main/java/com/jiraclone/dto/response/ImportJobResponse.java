@@ -0,0 +1,53 @@
+package com.jiraclone.dto.response;
+
+import com.jiraclone.service.ImportJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+    private String id;
+    private String source;
+    private ImportJob.Status status;
+    private String phase;
+    private long rowsProcessed;
+    private long rowsPerSecond;
+    private String error;
+    private Map<String, Object> result;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static ImportJobResponse from(ImportJob job) {
+        long rows = job.getRowsProcessed().get();
+        long rowsPerSecond = 0;
+        if (job.getStartedAt() != null) {
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+            long elapsedMs = Math.max(Duration.between(job.getStartedAt(), end).toMillis(), 1);
+            rowsPerSecond = rows * 1000 / elapsedMs;
+        }
+
+        return ImportJobResponse.builder()
+            .id(job.getId())
+            .source(job.getSource())
+            .status(job.getStatus())
+            .phase(job.getPhase())
+            .rowsProcessed(rows)
+            .rowsPerSecond(rowsPerSecond)
+            .error(job.getError())
+            .result(job.getResult())
+            .createdAt(job.getCreatedAt())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .build();
+    }
+}
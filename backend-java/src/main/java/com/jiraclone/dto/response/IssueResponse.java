@@ -27,6 +27,7 @@ public class IssueResponse {
     private IssueStatus status;
     private IssuePriority priority;
     private Integer listPosition;
+    private String listRank;
     private String description;
     private Integer estimate;
     private Integer timeSpent;
@@ -79,6 +80,7 @@ public class IssueResponse {
             .status(issue.getStatus())
             .priority(issue.getPriority())
             .listPosition(issue.getListPosition())
+            .listRank(issue.getListRank())
             .description(issue.getDescription())
             .estimate(issue.getEstimate())
             .timeSpent(issue.getTimeSpent())
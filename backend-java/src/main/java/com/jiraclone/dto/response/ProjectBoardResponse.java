@@ -0,0 +1,54 @@
+package com.jiraclone.dto.response;
+
+import com.jiraclone.domain.entity.Permission;
+import com.jiraclone.domain.entity.Project;
+import com.jiraclone.domain.enums.ProjectCategory;
+import com.jiraclone.domain.enums.ProjectRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectBoardResponse {
+    private String id;
+    private String key;
+    private String name;
+    private String url;
+    private String description;
+    private ProjectCategory category;
+    private Boolean isPublic;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<BoardIssueResponse> issues;
+    private List<UserResponse> users;
+    private ProjectRole userRole;
+
+    public static ProjectBoardResponse from(Project project, ProjectRole userRole,
+                                            List<BoardIssueResponse> issues,
+                                            List<Permission> permissions) {
+        return ProjectBoardResponse.builder()
+            .id(project.getId())
+            .key(project.getKey())
+            .name(project.getName())
+            .url(project.getUrl())
+            .description(project.getDescription())
+            .category(project.getCategory())
+            .isPublic(project.getIsPublic())
+            .createdAt(project.getCreatedAt())
+            .updatedAt(project.getUpdatedAt())
+            .userRole(userRole)
+            .issues(issues)
+            .users(permissions.stream()
+                .map(permission -> UserResponse.from(permission.getUser()))
+                .collect(Collectors.toList()))
+            .build();
+    }
+}
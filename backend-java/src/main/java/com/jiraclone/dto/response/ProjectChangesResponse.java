@@ -0,0 +1,42 @@
+package com.jiraclone.dto.response;
+
+import com.jiraclone.domain.enums.ChangeEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Changes to a project since a cursor. Clients apply issues, comments and
+ * permissions as upserts and remove the entities listed in deleted, then
+ * pass cursor back as the next "since".
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectChangesResponse {
+    private String projectId;
+    private LocalDateTime since;
+    private LocalDateTime cursor;
+    // True when this is the full state (no cursor, or one older than the tombstone
+    // retention): clients replace their copy instead of applying upserts
+    private boolean reset;
+    private List<IssueResponse> issues;
+    private List<CommentResponse> comments;
+    private List<PermissionResponse> permissions;
+    private List<DeletedEntity> deleted;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeletedEntity {
+        private ChangeEntityType type;
+        private String id;
+        private LocalDateTime deletedAt;
+    }
+}
@@ -0,0 +1,41 @@
+package com.jiraclone.dto.response;
+
+import com.jiraclone.service.ProjectPurge;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectPurgeResponse {
+    private String projectId;
+    private ProjectPurge.Status status;
+    private String phase;
+    private long issuesDeleted;
+    private long commentsDeleted;
+    private long tombstonesDeleted;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static ProjectPurgeResponse from(ProjectPurge purge) {
+        return ProjectPurgeResponse.builder()
+            .projectId(purge.getProjectId())
+            .status(purge.getStatus())
+            .phase(purge.getPhase())
+            .issuesDeleted(purge.getIssuesDeleted().get())
+            .commentsDeleted(purge.getCommentsDeleted().get())
+            .tombstonesDeleted(purge.getTombstonesDeleted().get())
+            .error(purge.getError())
+            .createdAt(purge.getCreatedAt())
+            .startedAt(purge.getStartedAt())
+            .finishedAt(purge.getFinishedAt())
+            .build();
+    }
+}
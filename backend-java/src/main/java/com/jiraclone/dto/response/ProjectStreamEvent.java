@@ -0,0 +1,53 @@
+package com.jiraclone.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jiraclone.domain.enums.IssueStatus;
+import com.jiraclone.event.CommentChangedEvent;
+import com.jiraclone.event.IssueChangeType;
+import com.jiraclone.event.IssueChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change notification pushed on a project's event stream. Kept small on purpose
+ * (no description or comment body); clients fetch the full entity when they need it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectStreamEvent {
+    private IssueChangeType type;
+    private String issueId;
+    private String commentId;
+    private String key;
+    private String title;
+    private IssueStatus status;
+    private Integer listPosition;
+    private String listRank;
+    private String userId;
+
+    public static ProjectStreamEvent from(IssueChangedEvent event) {
+        return ProjectStreamEvent.builder()
+            .type(event.getType())
+            .issueId(event.getIssueId())
+            .key(event.getKey())
+            .title(event.getTitle())
+            .status(event.getStatus())
+            .listPosition(event.getListPosition())
+            .listRank(event.getListRank())
+            .build();
+    }
+
+    public static ProjectStreamEvent from(CommentChangedEvent event) {
+        return ProjectStreamEvent.builder()
+            .type(event.getType())
+            .issueId(event.getIssueId())
+            .commentId(event.getCommentId())
+            .userId(event.getUserId())
+            .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.jiraclone.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamTokenResponse {
+    private String token;
+    private long expiresInSeconds;
+}
@@ -0,0 +1,33 @@
+package com.jiraclone.event;
+
+import com.jiraclone.domain.entity.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Published by comment writes; listeners react after the transaction commits.
+ * Uses the CREATED / UPDATED / DELETED change types.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentChangedEvent {
+    private IssueChangeType type;
+    private String commentId;
+    private String issueId;
+    private String projectId;
+    private String userId;
+
+    public static CommentChangedEvent of(IssueChangeType type, Comment comment, String projectId) {
+        return CommentChangedEvent.builder()
+            .type(type)
+            .commentId(comment.getId())
+            .issueId(comment.getIssueId())
+            .projectId(projectId)
+            .userId(comment.getUserId())
+            .build();
+    }
+}
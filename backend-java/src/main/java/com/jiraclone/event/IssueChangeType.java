@@ -0,0 +1,8 @@
+package com.jiraclone.event;
+
+public enum IssueChangeType {
+    CREATED,
+    UPDATED,
+    MOVED,
+    DELETED
+}
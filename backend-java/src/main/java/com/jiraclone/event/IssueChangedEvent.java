@@ -0,0 +1,41 @@
+package com.jiraclone.event;
+
+import com.jiraclone.domain.entity.Issue;
+import com.jiraclone.domain.enums.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Published by issue writes; listeners react after the transaction commits.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueChangedEvent {
+    private IssueChangeType type;
+    private String issueId;
+    private String projectId;
+    private String key;
+    private String title;
+    private String description;
+    private IssueStatus status;
+    private Integer listPosition;
+    private String listRank;
+
+    public static IssueChangedEvent of(IssueChangeType type, Issue issue) {
+        return IssueChangedEvent.builder()
+            .type(type)
+            .issueId(issue.getId())
+            .projectId(issue.getProjectId())
+            .key(issue.getKey())
+            .title(issue.getTitle())
+            .description(issue.getDescription())
+            .status(issue.getStatus())
+            .listPosition(issue.getListPosition())
+            .listRank(issue.getListRank())
+            .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.jiraclone.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDeletedEvent {
+    private String projectId;
+}
@@ -0,0 +1,13 @@
+package com.jiraclone.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMemberRemovedEvent {
+    private String projectId;
+    private String userId;
+}
@@ -0,0 +1,25 @@
+package com.jiraclone.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements issued through Hibernate by one request to the
+ * annotated endpoint, including the authentication lookups that run before it.
+ *
+ * Requests over budget are logged, or fail when query.budget.enforce is on (tests).
+ *
+ * Only statements prepared by Hibernate are counted (StatementInspector); JdbcTemplate
+ * statements bypass it and are neither counted nor limited. The budgeted endpoints
+ * issue none.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
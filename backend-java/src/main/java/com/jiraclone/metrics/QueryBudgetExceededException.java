@@ -0,0 +1,12 @@
+package com.jiraclone.metrics;
+
+/**
+ * Thrown when query.budget.enforce is on and a request issues more SQL
+ * statements than its endpoint's @QueryBudget allows
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(int budget, int statements) {
+        super("Query budget exceeded: " + statements + " statements, budget is " + budget);
+    }
+}
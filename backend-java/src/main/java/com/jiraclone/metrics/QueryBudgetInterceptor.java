@@ -0,0 +1,33 @@
+package com.jiraclone.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the @QueryBudget of the handler method to the current request
+ */
+@Component
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private final boolean enforce;
+
+    public QueryBudgetInterceptor(@Value("${query.budget.enforce:false}") boolean enforce) {
+        this.enforce = enforce;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null && handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                statistics.limitStatements(budget.value(), enforce);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,92 @@
+package com.jiraclone.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the Hibernate statements, entity loads and collection fetches of each
+ * request, per method and URI template, as hibernate.request.* summaries. Logs
+ * requests over their @QueryBudget and statements repeated query.n-plus-one-threshold
+ * times or more within one request (suspected N+1).
+ *
+ * Runs ahead of the security filters so the principal lookup is counted as well.
+ * Requests that matched no handler are not recorded, which keeps the uri tag bounded.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                @Value("${query.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatistics.end();
+            record(request, statistics);
+            report(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern.toString());
+        summary("hibernate.request.statements", tags).record(statistics.getStatements());
+        summary("hibernate.request.entity.loads", tags).record(statistics.getEntityLoads());
+        summary("hibernate.request.collection.fetches", tags).record(statistics.getCollectionFetches());
+    }
+
+    private void report(HttpServletRequest request, RequestStatistics statistics) {
+        if (statistics.isOverBudget()) {
+            log.warn("{} {} issued {} statements, over its query budget of {}", request.getMethod(),
+                request.getRequestURI(), statistics.getStatements(), statistics.getBudget());
+        }
+        if (nPlusOneThreshold > 0) {
+            statistics.getRepeatedStatements(nPlusOneThreshold).forEach((sql, count) ->
+                log.warn("Suspected N+1 in {} {}: {} x {}", request.getMethod(), request.getRequestURI(),
+                    count, abbreviate(sql)));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql;
+    }
+
+    private DistributionSummary summary(String name, Tags tags) {
+        return DistributionSummary.builder(name)
+            .tags(tags)
+            .register(meterRegistry);
+    }
+}
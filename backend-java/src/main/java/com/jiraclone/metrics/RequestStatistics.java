@@ -0,0 +1,114 @@
+package com.jiraclone.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate work done on behalf of the current request: statements prepared,
+ * entities loaded and lazy collections initialized. Statements are also counted
+ * per shape (the SQL with whitespace and IN lists collapsed) to spot N+1 patterns.
+ *
+ * Bound to the request thread by RequestMetricsFilter. Work on other threads
+ * (streamed exports, import jobs, background purges) belongs to no request.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(\\s*,\\s*\\?)+\\)");
+
+    private final Map<String, Integer> statementShapes = new HashMap<>();
+    private int statements;
+    private int entityLoads;
+    private int collectionFetches;
+    private int budget;
+    private boolean enforceBudget;
+
+    private RequestStatistics() {
+    }
+
+    /**
+     * Statistics of the request running on this thread, or null outside a request
+     */
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    static RequestStatistics begin() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Limit the statements of this request; when enforced, the statement going over
+     * the budget fails with QueryBudgetExceededException instead of being prepared
+     */
+    void limitStatements(int budget, boolean enforce) {
+        this.budget = budget;
+        this.enforceBudget = enforce;
+        checkBudget();
+    }
+
+    void statementPrepared(String sql) {
+        statements++;
+        String shape = IN_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("(?...)");
+        statementShapes.merge(shape, 1, Integer::sum);
+        checkBudget();
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void collectionFetched() {
+        collectionFetches++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getCollectionFetches() {
+        return collectionFetches;
+    }
+
+    /**
+     * Declared statement budget of the request, 0 when it has none
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    public boolean isOverBudget() {
+        return budget > 0 && statements > budget;
+    }
+
+    /**
+     * Statement shapes issued at least threshold times, with their counts
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        statementShapes.forEach((shape, count) -> {
+            if (count >= threshold) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+
+    private void checkBudget() {
+        if (enforceBudget && isOverBudget()) {
+            throw new QueryBudgetExceededException(budget, statements);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.jiraclone.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiraclone.dto.response.ProjectStreamEvent;
+import com.jiraclone.event.CommentChangedEvent;
+import com.jiraclone.event.IssueChangedEvent;
+import com.jiraclone.event.ProjectDeletedEvent;
+import com.jiraclone.event.ProjectMemberRemovedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans out issue and comment changes to the Server-Sent Event streams of a project.
+ *
+ * One channel per project holds its subscribers. Each change is serialized once, after
+ * the write transaction commits, and offered to every subscriber's bounded buffer.
+ * A small shared pool drains buffers, so an idle subscriber holds no thread, only its
+ * async request and an empty buffer. A subscriber whose buffer is full is too slow and
+ * is disconnected; on reconnect the client catches up through the changes endpoint
+ * using the time sent in the initial "ready" event.
+ *
+ * Read access is checked when a stream is opened; when a member is removed from the
+ * project, that user's open streams are closed, and a reconnect is checked again.
+ */
+@Slf4j
+@Component
+public class ProjectEventBroadcaster {
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor deliveryExecutor;
+
+    private final Map<String, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+
+    public ProjectEventBroadcaster(ObjectMapper objectMapper,
+                                   @Value("${realtime.sse.buffer-size:64}") int bufferSize,
+                                   @Value("${realtime.sse.timeout-ms:1800000}") long timeoutMs,
+                                   @Value("${realtime.sse.delivery-threads:4}") int deliveryThreads,
+                                   @Value("${realtime.sse.delivery-queue-size:10000}") int deliveryQueueSize) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = Math.max(bufferSize, 1);
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.deliveryExecutor = new ThreadPoolExecutor(
+            deliveryThreads, deliveryThreads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(deliveryQueueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, "sse-delivery-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.deliveryExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Open a stream for a project. The caller has already checked read access.
+     *
+     * @param userId the subscribing user, or null for anonymous readers of a public project
+     */
+    public SseEmitter subscribe(String projectId, String userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(projectId, userId, emitter);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        channels.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.offer(SseEmitter.event().name("ready").data(LocalDateTime.now().toString()));
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        broadcast(event.getProjectId(), "issue", ProjectStreamEvent.from(event));
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        broadcast(event.getProjectId(), "comment", ProjectStreamEvent.from(event));
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        Set<Subscriber> subscribers = channels.remove(event.getProjectId());
+        if (subscribers != null) {
+            subscribers.forEach(Subscriber::close);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProjectMemberRemoved(ProjectMemberRemovedEvent event) {
+        Set<Subscriber> subscribers = channels.get(event.getProjectId());
+        if (subscribers != null) {
+            subscribers.stream()
+                .filter(subscriber -> event.getUserId().equals(subscriber.userId))
+                .forEach(Subscriber::close);
+        }
+    }
+
+    /**
+     * Comment frame to every stream: keeps proxies from closing idle connections
+     * and surfaces dead ones as write errors.
+     */
+    @Scheduled(fixedDelayString = "${realtime.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Set<Subscriber> subscribers : channels.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return channels.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public long getDroppedSubscribers() {
+        return droppedSubscribers.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        channels.clear();
+        deliveryExecutor.shutdownNow();
+    }
+
+    private void broadcast(String projectId, String name, ProjectStreamEvent payload) {
+        Set<Subscriber> subscribers = channels.get(projectId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize {} event for project {}", name, projectId, e);
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().name(name).data(data));
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        channels.computeIfPresent(subscriber.projectId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private final class Subscriber {
+
+        private final String projectId;
+        private final String userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(String projectId, String userId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                droppedSubscribers.incrementAndGet();
+                log.debug("Dropping slow event stream subscriber of project {}", projectId);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                deliveryExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                droppedSubscribers.incrementAndGet();
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the async request already ended
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // An offer may have raced with the end of the loop
+            if (!closed.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            buffer.clear();
+            unsubscribe(this);
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // Already completed by the container
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.jiraclone.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Searchable fields of an issue, read through a projection when the index is rebuilt
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueDocument {
+    private String id;
+    private String projectId;
+    private String key;
+    private String title;
+    private String description;
+}
@@ -0,0 +1,292 @@
+package com.jiraclone.search;
+
+import com.jiraclone.domain.repository.IssueRepository;
+import com.jiraclone.event.IssueChangedEvent;
+import com.jiraclone.event.ProjectDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory n-gram inverted index over issue key, title and description,
+ * partitioned per project.
+ *
+ * Tokens are lowercased and stripped of accents. Tokens of 3+ chars are indexed by
+ * their trigrams (substring matching), and every token also by its 1 and 2 char
+ * prefixes (short queries match by prefix). An issue matches when it contains every
+ * gram of every query token; its score is the sum of the field weights of those grams.
+ *
+ * Rebuilt from the database once the application is ready, then kept current by
+ * IssueChangedEvent / ProjectDeletedEvent after each write transaction commits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IssueSearchIndex {
+
+    private static final float KEY_WEIGHT = 3.0f;
+    private static final float TITLE_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final int GRAM_SIZE = 3;
+    private static final int REBUILD_WINDOW_SIZE = 1000;
+
+    private final IssueRepository issueRepository;
+
+    private final Map<String, ProjectPartition> partitions = new ConcurrentHashMap<>();
+    private final Map<String, String> projectByIssueId = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        partitions.clear();
+        projectByIssueId.clear();
+
+        long count = 0;
+        String afterId = "";
+        List<IssueDocument> window;
+        do {
+            window = issueRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, REBUILD_WINDOW_SIZE));
+            window.forEach(this::index);
+            count += window.size();
+            if (!window.isEmpty()) {
+                afterId = window.get(window.size() - 1).getId();
+            }
+        } while (window.size() == REBUILD_WINDOW_SIZE);
+
+        ready = true;
+        log.info("Issue search index built: {} issues in {} projects ({} ms)",
+            count, partitions.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        switch (event.getType()) {
+            case DELETED -> remove(event.getIssueId());
+            // Board moves change status and position only, not searchable text
+            case MOVED -> { }
+            default -> index(new IssueDocument(event.getIssueId(), event.getProjectId(),
+                event.getKey(), event.getTitle(), event.getDescription()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        ProjectPartition partition = partitions.remove(event.getProjectId());
+        if (partition != null) {
+            partition.issueIds().forEach(projectByIssueId::remove);
+        }
+    }
+
+    public void index(IssueDocument document) {
+        // The issue may have moved to another project
+        String previousProjectId = projectByIssueId.put(document.getId(), document.getProjectId());
+        if (previousProjectId != null && !previousProjectId.equals(document.getProjectId())) {
+            ProjectPartition previous = partitions.get(previousProjectId);
+            if (previous != null) {
+                previous.remove(document.getId());
+            }
+        }
+
+        Map<String, Float> grams = new HashMap<>();
+        addField(grams, document.getKey(), KEY_WEIGHT);
+        addField(grams, document.getTitle(), TITLE_WEIGHT);
+        addField(grams, document.getDescription(), DESCRIPTION_WEIGHT);
+
+        partitions.computeIfAbsent(document.getProjectId(), id -> new ProjectPartition())
+            .put(document.getId(), grams);
+    }
+
+    public void remove(String issueId) {
+        String projectId = projectByIssueId.remove(issueId);
+        if (projectId != null) {
+            ProjectPartition partition = partitions.get(projectId);
+            if (partition != null) {
+                partition.remove(issueId);
+            }
+        }
+    }
+
+    /**
+     * Ranked issue ids matching the term, best first
+     *
+     * @param projectId restrict to one project, or null for all projects
+     */
+    public List<String> search(String term, String projectId, int offset, int limit) {
+        List<List<String>> queryGrams = new ArrayList<>();
+        for (String token : tokenize(term)) {
+            queryGrams.add(queryGrams(token));
+        }
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        Collection<ProjectPartition> targets;
+        if (projectId != null) {
+            ProjectPartition partition = partitions.get(projectId);
+            targets = partition != null ? List.of(partition) : List.of();
+        } else {
+            targets = partitions.values();
+        }
+
+        List<Map.Entry<String, Float>> hits = new ArrayList<>();
+        for (ProjectPartition partition : targets) {
+            hits.addAll(partition.match(queryGrams).entrySet());
+        }
+
+        return hits.stream()
+            .sorted(Map.Entry.<String, Float>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()))
+            .skip(offset)
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    private static void addField(Map<String, Float> grams, String text, float weight) {
+        for (String token : tokenize(text)) {
+            for (String gram : indexGrams(token)) {
+                grams.merge(gram, weight, Math::max);
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalized.split("[^\\p{Alnum}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> indexGrams(String token) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 1; i < GRAM_SIZE && i <= token.length(); i++) {
+            grams.add(token.substring(0, i));
+        }
+        for (int i = 0; i + GRAM_SIZE <= token.length(); i++) {
+            grams.add(token.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static List<String> queryGrams(String token) {
+        if (token.length() < GRAM_SIZE) {
+            return List.of(token);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= token.length(); i++) {
+            grams.add(token.substring(i, i + GRAM_SIZE));
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * Postings for the issues of one project, guarded by a read/write lock
+     */
+    private static final class ProjectPartition {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Map<String, Float>> postings = new HashMap<>();
+        private final Map<String, Map<String, Float>> documents = new HashMap<>();
+
+        void put(String issueId, Map<String, Float> grams) {
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(issueId);
+                documents.put(issueId, grams);
+                grams.forEach((gram, weight) ->
+                    postings.computeIfAbsent(gram, g -> new HashMap<>()).put(issueId, weight));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String issueId) {
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(issueId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Set<String> issueIds() {
+            lock.readLock().lock();
+            try {
+                return new HashSet<>(documents.keySet());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Map<String, Float> match(List<List<String>> queryGrams) {
+            lock.readLock().lock();
+            try {
+                Map<String, Float> scores = null;
+                for (List<String> tokenGrams : queryGrams) {
+                    for (String gram : tokenGrams) {
+                        Map<String, Float> posting = postings.get(gram);
+                        if (posting == null) {
+                            return Map.of();
+                        }
+                        if (scores == null) {
+                            scores = new HashMap<>(posting);
+                        } else {
+                            scores.keySet().retainAll(posting.keySet());
+                            for (Map.Entry<String, Float> entry : scores.entrySet()) {
+                                entry.setValue(entry.getValue() + posting.get(entry.getKey()));
+                            }
+                        }
+                        if (scores.isEmpty()) {
+                            return Map.of();
+                        }
+                    }
+                }
+                return scores != null ? scores : Map.of();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void removeUnlocked(String issueId) {
+            Map<String, Float> grams = documents.remove(issueId);
+            if (grams == null) {
+                return;
+            }
+            for (String gram : grams.keySet()) {
+                Map<String, Float> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(issueId);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.jiraclone.security;
 
-import com.jiraclone.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,8 +21,9 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
-    private final CustomUserDetailsService userDetailsService;
+    private static final String EVENTS_PATH_SUFFIX = "/events";
+
+    private final JwtPrincipalResolver jwtPrincipalResolver;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,12 +32,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         try {
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt) && jwtService.validateToken(jwt)) {
-                String userId = jwtService.getUserIdFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
+            UserDetails userDetails = resolveUser(request);
 
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
@@ -53,10 +50,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String getJwtFromRequest(HttpServletRequest request) {
+    private UserDetails resolveUser(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+            return jwtPrincipalResolver.resolve(bearerToken.substring(7));
+        }
+        // EventSource cannot set headers: event streams pass a stream token of their project
+        // (POST /api/projects/{id}/events/token) as a query parameter, never the session token
+        String uri = request.getRequestURI();
+        String streamToken = request.getParameter("stream_token");
+        if (StringUtils.hasText(streamToken) && uri.endsWith(EVENTS_PATH_SUFFIX)) {
+            String projectPath = uri.substring(0, uri.length() - EVENTS_PATH_SUFFIX.length());
+            String projectId = projectPath.substring(projectPath.lastIndexOf('/') + 1);
+            return jwtPrincipalResolver.resolveStreamToken(streamToken, projectId);
         }
         return null;
     }
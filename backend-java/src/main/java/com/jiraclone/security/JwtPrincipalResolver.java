@@ -0,0 +1,84 @@
+package com.jiraclone.security;
+
+import com.jiraclone.cache.BoundedTtlCache;
+import com.jiraclone.cache.CacheInvalidation;
+import com.jiraclone.cache.CacheRegistry;
+import com.jiraclone.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves a bearer token to its UserPrincipal, caching verified tokens until
+ * the earlier of the token's expiry and the cache TTL. Cached requests skip both
+ * signature verification and the users lookup.
+ *
+ * UserService and AuthService evict a user's principals when the user is updated,
+ * deleted or changes password, immediately and again after their transaction commits.
+ * Verification of uncached tokens is timed as jwt.validation, tagged by result.
+ */
+@Component
+public class JwtPrincipalResolver {
+
+    private final JwtService jwtService;
+    private final CustomUserDetailsService userDetailsService;
+    private final BoundedTtlCache<String, UserPrincipal> principals;
+    private final Timer validTokens;
+    private final Timer invalidTokens;
+
+    public JwtPrincipalResolver(JwtService jwtService,
+                                CustomUserDetailsService userDetailsService,
+                                CacheRegistry cacheRegistry,
+                                MeterRegistry meterRegistry,
+                                @Value("${jwt.cache.max-size:10000}") int maxSize,
+                                @Value("${jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.principals = cacheRegistry.create("jwt-principals", maxSize, Duration.ofSeconds(ttlSeconds));
+        this.validTokens = meterRegistry.timer("jwt.validation", "result", "valid");
+        this.invalidTokens = meterRegistry.timer("jwt.validation", "result", "invalid");
+    }
+
+    /**
+     * Principal for a token, or null if the token is invalid or expired
+     */
+    public UserPrincipal resolve(String token) {
+        // The cache reads its generation before the load, so an eviction that runs while
+        // the user is being loaded keeps the loaded principal out of the cache
+        return principals.getExpiring(token, this::load);
+    }
+
+    /**
+     * Principal for a stream token of the project, or null. Not cached: each token
+     * opens a single long-lived stream.
+     */
+    public UserPrincipal resolveStreamToken(String token, String projectId) {
+        String userId = jwtService.getUserIdFromStreamToken(token, projectId);
+        return userId != null ? (UserPrincipal) userDetailsService.loadUserById(userId) : null;
+    }
+
+    public void evictUser(String userId) {
+        CacheInvalidation.runNowAndAfterCommit(
+            () -> principals.invalidateValuesIf(principal -> principal.getId().equals(userId)));
+    }
+
+    private BoundedTtlCache.Entry<UserPrincipal> load(String token) {
+        long start = System.nanoTime();
+        Claims claims = jwtService.parseValidToken(token);
+        (claims != null ? validTokens : invalidTokens).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (claims == null || jwtService.isScopedToken(claims)) {
+            return null;
+        }
+
+        UserPrincipal principal = (UserPrincipal) userDetailsService.loadUserById(claims.getSubject());
+        long expiresAt = claims.getExpiration() != null
+            ? claims.getExpiration().getTime()
+            : Long.MAX_VALUE;
+        return BoundedTtlCache.Entry.expiringAt(principal, expiresAt);
+    }
+}
@@ -1,6 +1,5 @@
 package com.jiraclone.security;
 
-import com.jiraclone.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,8 +21,7 @@ import java.io.IOException;
 @Slf4j
 public class OptionalJwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
-    private final CustomUserDetailsService userDetailsService;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -36,10 +34,9 @@ public class OptionalJwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtService.validateToken(jwt)) {
-                String userId = jwtService.getUserIdFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
+            UserDetails userDetails = StringUtils.hasText(jwt) ? jwtPrincipalResolver.resolve(jwt) : null;
 
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
@@ -11,6 +11,7 @@ import com.jiraclone.dto.response.UserResponse;
 import com.jiraclone.exception.BadRequestException;
 import com.jiraclone.exception.ResourceNotFoundException;
 import com.jiraclone.exception.UnauthorizedException;
+import com.jiraclone.security.JwtPrincipalResolver;
 import com.jiraclone.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -24,6 +25,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
 
     @Transactional
     public AuthResponse login(LoginRequest request) {
@@ -95,5 +97,6 @@ public class AuthService {
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        jwtPrincipalResolver.evictUser(userId);
     }
 }
@@ -2,24 +2,35 @@ package com.jiraclone.service;
 
 import com.jiraclone.domain.entity.Comment;
 import com.jiraclone.domain.entity.Issue;
-import com.jiraclone.domain.entity.Permission;
+import com.jiraclone.domain.entity.Tombstone;
+import com.jiraclone.domain.enums.ChangeEntityType;
 import com.jiraclone.domain.enums.ProjectRole;
 import com.jiraclone.domain.enums.UserRole;
 import com.jiraclone.domain.repository.CommentRepository;
 import com.jiraclone.domain.repository.IssueRepository;
-import com.jiraclone.domain.repository.PermissionRepository;
+import com.jiraclone.domain.repository.TombstoneRepository;
 import com.jiraclone.domain.repository.UserRepository;
 import com.jiraclone.dto.request.CommentRequest;
 import com.jiraclone.dto.response.CommentResponse;
+import com.jiraclone.dto.response.CursorPage;
+import com.jiraclone.event.CommentChangedEvent;
+import com.jiraclone.event.IssueChangeType;
+import com.jiraclone.exception.BadRequestException;
 import com.jiraclone.exception.ForbiddenException;
 import com.jiraclone.exception.ResourceNotFoundException;
 import com.jiraclone.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,7 +41,12 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final IssueRepository issueRepository;
     private final UserRepository userRepository;
-    private final PermissionRepository permissionRepository;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final TombstoneRepository tombstoneRepository;
+    private final NdjsonStreamWriter ndjsonStreamWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
 
     @Transactional(readOnly = true)
     public List<CommentResponse> getAllComments() {
@@ -39,6 +55,15 @@ public class CommentService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Stream all comments as NDJSON, read and mapped in keyset windows
+     */
+    @Transactional(readOnly = true)
+    public void streamAllComments(OutputStream outputStream) throws IOException {
+        ndjsonStreamWriter.write(commentRepository::findWindowAfter, Comment::getId, CommentResponse::from,
+            outputStream);
+    }
+
     @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByIssueId(String issueId) {
         return commentRepository.findByIssueIdOrderByCreatedAtAsc(issueId).stream()
@@ -52,6 +77,43 @@ public class CommentService {
             .map(CommentResponse::from);
     }
 
+    /**
+     * Keyset pagination on (createdAt, id) within an issue: no OFFSET and no COUNT(*).
+     * One extra row is read to detect the last page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getCommentsByIssueId(String issueId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        String[] position = KeysetCursor.decode(cursor);
+        List<Comment> comments;
+        if (position == null) {
+            comments = commentRepository.findFirstKeysetPageByIssueId(issueId, limit);
+        } else {
+            try {
+                comments = commentRepository.findKeysetPageByIssueIdAfter(
+                    issueId, LocalDateTime.parse(position[0]), position[1], limit);
+            } catch (DateTimeParseException e) {
+                throw new BadRequestException("Cursor inválido");
+            }
+        }
+
+        boolean hasMore = comments.size() > pageSize;
+        if (hasMore) {
+            comments = comments.subList(0, pageSize);
+        }
+        Comment last = comments.isEmpty() ? null : comments.get(comments.size() - 1);
+
+        return CursorPage.<CommentResponse>builder()
+            .items(comments.stream()
+                .map(CommentResponse::from)
+                .collect(Collectors.toList()))
+            .hasMore(hasMore)
+            .nextCursor(hasMore ? KeysetCursor.encode(last.getCreatedAt(), last.getId()) : null)
+            .build();
+    }
+
     @Transactional(readOnly = true)
     public CommentResponse getCommentById(String id) {
         Comment comment = commentRepository.findById(id)
@@ -66,7 +128,7 @@ public class CommentService {
             .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", request.getIssueId()));
 
         // Check MEMBER permission on the issue's project
-        checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.MEMBER);
+        projectAuthorizationService.checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.MEMBER);
 
         // Verify user exists
         userRepository.findById(request.getUserId())
@@ -79,6 +141,7 @@ public class CommentService {
             .build();
 
         comment = commentRepository.save(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.of(IssueChangeType.CREATED, comment, issue.getProjectId()));
         return CommentResponse.from(comment);
     }
 
@@ -92,8 +155,11 @@ public class CommentService {
 
         comment.setBody(request.getBody());
 
-        comment = commentRepository.save(comment);
-        return CommentResponse.from(comment);
+        Comment saved = commentRepository.save(comment);
+        String projectId = issueRepository.findProjectIdById(saved.getIssueId())
+            .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", saved.getIssueId()));
+        eventPublisher.publishEvent(CommentChangedEvent.of(IssueChangeType.UPDATED, saved, projectId));
+        return CommentResponse.from(saved);
     }
 
     @Transactional
@@ -104,24 +170,16 @@ public class CommentService {
         // Only comment author or project ADMIN can delete
         checkCommentOwnerOrAdmin(comment, currentUser);
 
-        commentRepository.delete(comment);
-    }
-
-    private void checkProjectPermission(String projectId, UserPrincipal currentUser,
-                                         ProjectRole requiredRole) {
-        if (currentUser.getRole() == UserRole.ADMIN) {
-            return;
-        }
-
-        Permission permission = permissionRepository
-            .findByUserIdAndProjectId(currentUser.getId(), projectId)
-            .orElseThrow(() -> new ForbiddenException(
-                "You do not have permission to access this project"));
+        Issue issue = issueRepository.findById(comment.getIssueId())
+            .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", comment.getIssueId()));
 
-        if (!permission.getRole().hasPermission(requiredRole)) {
-            throw new ForbiddenException(
-                "Access denied. Requires " + requiredRole.getValue() + " role or higher.");
-        }
+        commentRepository.delete(comment);
+        tombstoneRepository.save(Tombstone.builder()
+            .entityType(ChangeEntityType.COMMENT)
+            .entityId(comment.getId())
+            .projectId(issue.getProjectId())
+            .build());
+        eventPublisher.publishEvent(CommentChangedEvent.of(IssueChangeType.DELETED, comment, issue.getProjectId()));
     }
 
     private void checkCommentOwnerOrAdmin(Comment comment, UserPrincipal currentUser) {
@@ -138,11 +196,7 @@ public class CommentService {
         Issue issue = issueRepository.findById(comment.getIssueId())
             .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", comment.getIssueId()));
 
-        Permission permission = permissionRepository
-            .findByUserIdAndProjectId(currentUser.getId(), issue.getProjectId())
-            .orElse(null);
-
-        if (permission == null || permission.getRole() != ProjectRole.ADMIN) {
+        if (!projectAuthorizationService.isProjectAdmin(issue.getProjectId(), currentUser)) {
             throw new ForbiddenException("Only comment author or project admin can modify this comment");
         }
     }
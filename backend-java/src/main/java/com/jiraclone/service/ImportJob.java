@@ -0,0 +1,105 @@
+package com.jiraclone.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of one background project import. Written by the worker thread,
+ * read by status requests; also the progress/cancellation hook passed to
+ * ProjectImportService.
+ */
+@Getter
+public class ImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED
+    }
+
+    private final String id;
+    private final String source;
+    private final String ownerId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong rowsProcessed = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String phase = "queued";
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile Map<String, Object> result;
+    private volatile boolean cancelRequested;
+
+    public ImportJob(String id, String source, String ownerId) {
+        this.id = id;
+        this.source = source;
+        this.ownerId = ownerId;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public void addRows(long rows) {
+        rowsProcessed.addAndGet(rows);
+    }
+
+    /**
+     * Called by the worker between units of work; aborts the import once cancellation was requested
+     */
+    public void checkCancelled() {
+        if (cancelRequested) {
+            throw new CancellationException("Import cancelled");
+        }
+    }
+
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    /**
+     * @return false if the job was cancelled while queued and must not run
+     */
+    synchronized boolean markRunning() {
+        if (cancelRequested) {
+            return false;
+        }
+        status = Status.RUNNING;
+        phase = "starting";
+        startedAt = LocalDateTime.now();
+        return true;
+    }
+
+    void markSucceeded(Map<String, Object> result) {
+        this.result = result;
+        finish(Status.SUCCEEDED, "done");
+    }
+
+    void markFailed(String error) {
+        this.error = error;
+        finish(Status.FAILED, "failed");
+    }
+
+    void markCancelled() {
+        finish(Status.CANCELLED, "cancelled");
+    }
+
+    /**
+     * A queued job is cancelled at once; a running one stops at its next checkCancelled()
+     */
+    synchronized void requestCancel() {
+        cancelRequested = true;
+        if (status == Status.QUEUED) {
+            markCancelled();
+        }
+    }
+
+    private void finish(Status status, String phase) {
+        this.phase = phase;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+}
@@ -0,0 +1,220 @@
+package com.jiraclone.service;
+
+import com.jiraclone.exception.BadRequestException;
+import com.jiraclone.exception.PayloadTooLargeException;
+import com.jiraclone.exception.ResourceNotFoundException;
+import com.jiraclone.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs project imports as background jobs on a dedicated bounded pool, so request
+ * threads only accept the file and return a job id.
+ *
+ * Uploads are first moved to a temp file (the multipart part is gone once the request
+ * ends) and streamed from there by the worker. A raw request body is spooled the same
+ * way, up to the multipart size limit (spring.servlet.multipart.max-file-size); a
+ * larger body is answered with 413. Finished jobs are kept for
+ * import.jobs.retention-minutes for status queries. With spring.threads.virtual.enabled
+ * the workers are virtual threads; the pool still bounds how many imports run at once.
+ * A submission that finds the queue full is answered with 503 and a Retry-After of
+ * import.jobs.retry-after-seconds.
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    @FunctionalInterface
+    private interface SourceOpener {
+        InputStream open() throws IOException;
+    }
+
+    private final ProjectImportService projectImportService;
+    private final ThreadPoolExecutor executor;
+    private final long retentionMinutes;
+    private final long retryAfterSeconds;
+    private final long maxUploadBytes;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(ProjectImportService projectImportService,
+                            @Value("${import.jobs.concurrency:2}") int concurrency,
+                            @Value("${import.jobs.queue-capacity:20}") int queueCapacity,
+                            @Value("${import.jobs.retention-minutes:60}") long retentionMinutes,
+                            @Value("${import.jobs.retry-after-seconds:30}") long retryAfterSeconds,
+                            @Value("${spring.servlet.multipart.max-file-size:50MB}") DataSize maxUploadSize,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.projectImportService = projectImportService;
+        this.retentionMinutes = retentionMinutes;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.maxUploadBytes = maxUploadSize.toBytes();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = virtualThreads
+            ? new VirtualThreadTaskExecutor("import-job-").getVirtualThreadFactory()
+            : runnable -> new Thread(runnable, "import-job-" + threadCount.incrementAndGet());
+        this.executor = new ThreadPoolExecutor(
+            Math.max(concurrency, 1), Math.max(concurrency, 1), 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)), threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queue an import of a classpath seed file in data/
+     */
+    public ImportJob submitSeedFile(String fileName, String ownerId) {
+        String dataFile = "data/" + fileName + ".json";
+        ClassPathResource resource = new ClassPathResource(dataFile);
+        if (!resource.exists()) {
+            throw new IllegalStateException("Seed file not found: " + dataFile);
+        }
+        return submit(dataFile, ownerId, resource::getInputStream, null);
+    }
+
+    /**
+     * Queue an import of an uploaded multipart file (plain or gzip JSON). The part,
+     * already on disk and within the multipart size limit, is moved to the spool file.
+     */
+    public ImportJob submitUpload(MultipartFile upload, String ownerId) throws IOException {
+        Path spool = Files.createTempFile("import-upload-", ".json");
+        try {
+            upload.transferTo(spool);
+            return submit(upload.getOriginalFilename(), ownerId, () -> Files.newInputStream(spool), spool);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+    }
+
+    /**
+     * Queue an import of a raw request body (plain or gzip JSON). The stream is spooled
+     * to a temp file before this method returns; past the maximum import size the copy
+     * stops with PayloadTooLargeException.
+     */
+    public ImportJob submitUpload(InputStream upload, String sourceName, String ownerId) throws IOException {
+        Path spool = Files.createTempFile("import-upload-", ".json");
+        try {
+            spoolLimited(upload, spool);
+            return submit(sourceName, ownerId, () -> Files.newInputStream(spool), spool);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+    }
+
+    public ImportJob getJob(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("ImportJob", "id", id);
+        }
+        return job;
+    }
+
+    /**
+     * Request cancellation. A queued job never starts; a running job stops at its next
+     * chunk and the partially imported project is removed.
+     */
+    public ImportJob cancel(String id) {
+        ImportJob job = getJob(id);
+        if (job.isFinished()) {
+            throw new BadRequestException("Importação já finalizada");
+        }
+        job.requestCancel();
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().stream()
+            .filter(job -> !job.isFinished())
+            .forEach(ImportJob::requestCancel);
+        executor.shutdown();
+    }
+
+    private void spoolLimited(InputStream upload, Path spool) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(spool)) {
+            int read;
+            while ((read = upload.read(buffer)) != -1) {
+                total += read;
+                if (total > maxUploadBytes) {
+                    throw new PayloadTooLargeException("Importação maior que o tamanho máximo de "
+                        + DataSize.ofBytes(maxUploadBytes).toMegabytes() + "MB");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private ImportJob submit(String sourceName, String ownerId, SourceOpener opener, Path spool) {
+        pruneFinishedJobs();
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), sourceName, ownerId);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, opener, spool));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ServiceUnavailableException("Muitas importações na fila, tente novamente mais tarde",
+                retryAfterSeconds);
+        }
+        return job;
+    }
+
+    private void run(ImportJob job, SourceOpener opener, Path spool) {
+        try {
+            if (!job.markRunning()) {
+                // Cancelled while queued
+                return;
+            }
+            try (InputStream inputStream = opener.open()) {
+                Map<String, Object> result = projectImportService.importProject(
+                    inputStream, job.getOwnerId(), job.getSource(), job);
+                job.markSucceeded(result);
+            }
+        } catch (CancellationException e) {
+            log.info("Import job {} ({}) cancelled", job.getId(), job.getSource());
+            job.markCancelled();
+        } catch (Exception e) {
+            log.error("Import job {} ({}) failed", job.getId(), job.getSource(), e);
+            job.markFailed(e.getMessage());
+        } finally {
+            if (spool != null) {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    log.warn("Could not delete import spool file {}", spool, e);
+                }
+            }
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
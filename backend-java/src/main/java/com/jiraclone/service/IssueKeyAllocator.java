@@ -0,0 +1,115 @@
+package com.jiraclone.service;
+
+import com.jiraclone.domain.repository.ProjectRepository;
+import com.jiraclone.event.ProjectDeletedEvent;
+import com.jiraclone.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out issue keys from per-project blocks of counter values.
+ *
+ * A block is reserved with one atomic UPDATE of projects.issue_counter in its own
+ * short transaction, so the counter row is locked only for that statement and not
+ * for the whole issue-creating transaction. Keys are then served from memory.
+ * Values of a block that is not fully used (restart, rollback, crash) are skipped,
+ * so keys are unique but may have gaps.
+ *
+ * Callers must not be in a transaction: a reservation takes a pooled connection of its
+ * own, and a caller already holding one could wait on the pool (or the connection
+ * concurrency limit) forever once every connection is held that way.
+ * Threads of one project queue on a ReentrantLock, which unlike a monitor does not pin
+ * the carrier of a virtual thread waiting for the reservation round trip.
+ */
+@Slf4j
+@Component
+public class IssueKeyAllocator {
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    private final Map<String, KeyBlock> blocks = new ConcurrentHashMap<>();
+
+    public IssueKeyAllocator(ProjectRepository projectRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${issue.key.block-size:50}") int blockSize) {
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.blockSize = Math.max(blockSize, 1);
+    }
+
+    /**
+     * Next key for a project
+     * Format: {PROJECT_KEY}-{COUNTER}
+     */
+    public String nextKey(String projectId) {
+        requireNoTransaction();
+        KeyBlock block = blocks.computeIfAbsent(projectId, id -> new KeyBlock());
+        block.lock.lock();
+        try {
+            if (block.next > block.end) {
+                reserve(projectId, block, blockSize);
+            }
+            return block.projectKey + "-" + block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    /**
+     * Reserve a dedicated range of {@code count} counter values, bypassing the shared block.
+     * Used by bulk imports that know up front how many keys they need.
+     *
+     * @return the first counter value of the range
+     */
+    public int reserveRange(String projectId, int count) {
+        requireNoTransaction();
+        KeyBlock range = new KeyBlock();
+        reserve(projectId, range, count);
+        return range.next;
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        blocks.remove(event.getProjectId());
+    }
+
+    private void reserve(String projectId, KeyBlock block, int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (block.projectKey == null) {
+                block.projectKey = projectRepository.findKeyById(projectId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+            }
+            if (projectRepository.incrementIssueCounterBy(projectId, count) == 0) {
+                throw new ResourceNotFoundException("Project", "id", projectId);
+            }
+            int end = projectRepository.findIssueCounterById(projectId);
+            block.next = end - count + 1;
+            block.end = end;
+        });
+        log.debug("Reserved issue counter range {}..{} for project {}", block.next, block.end, projectId);
+    }
+
+    private static void requireNoTransaction() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Issue keys must be allocated outside a transaction");
+        }
+    }
+
+    private static final class KeyBlock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private String projectKey;
+        private int next = 1;
+        private int end = 0;
+    }
+}
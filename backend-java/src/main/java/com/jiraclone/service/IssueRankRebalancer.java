@@ -0,0 +1,121 @@
+package com.jiraclone.service;
+
+import com.jiraclone.domain.enums.IssueStatus;
+import com.jiraclone.domain.rank.LexoRank;
+import com.jiraclone.domain.repository.IssueBoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintenance of board ranks.
+ *
+ * On startup, issues created before ranks existed get one derived from their integer
+ * listPosition. Afterwards, columns whose ranks grew past the configured length
+ * (many inserts at the same spot) are renormalized to evenly spaced ranks, one column
+ * per transaction. Such columns are marked by IssueService when it writes the long rank,
+ * so a run only visits marked columns; the issues table is scanned for long ranks once,
+ * on startup, for marks lost with the previous process. Untouched columns are never rewritten.
+ */
+@Slf4j
+@Component
+public class IssueRankRebalancer {
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final IssueBoardRepository issueBoardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxRankLength;
+
+    /** Columns (projectId, status) marked for renormalization */
+    private final Set<Map.Entry<String, IssueStatus>> marked = ConcurrentHashMap.newKeySet();
+
+    public IssueRankRebalancer(IssueBoardRepository issueBoardRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${issue.rank.max-length:16}") int maxRankLength) {
+        this.issueBoardRepository = issueBoardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxRankLength = Math.max(maxRankLength, LexoRank.POSITION_KEY_LENGTH + 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRanks() {
+        long total = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<IssueBoardRepository.Placement> unranked = issueBoardRepository.findUnranked(BACKFILL_BATCH_SIZE);
+                unranked.forEach(placement -> placement.setListRank(LexoRank.forPosition(placement.getListPosition())));
+                issueBoardRepository.backfillRanks(unranked);
+                return unranked.size();
+            });
+            total += batch;
+        } while (batch == BACKFILL_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Backfilled board ranks for {} issues", total);
+        }
+
+        for (Object[] column : issueBoardRepository.findColumnsWithRankLongerThan(maxRankLength)) {
+            marked.add(Map.entry((String) column[0], (IssueStatus) column[1]));
+        }
+    }
+
+    /**
+     * Mark the rank's column for the next rebalance if the rank is over the length limit
+     */
+    public void markIfTooLong(String projectId, IssueStatus status, String listRank) {
+        if (listRank != null && listRank.length() > maxRankLength) {
+            marked.add(Map.entry(projectId, status));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${issue.rank.rebalance-interval-ms:60000}",
+               initialDelayString = "${issue.rank.rebalance-interval-ms:60000}")
+    public void rebalance() {
+        for (Map.Entry<String, IssueStatus> column : List.copyOf(marked)) {
+            marked.remove(column);
+            String projectId = column.getKey();
+            IssueStatus status = column.getValue();
+            try {
+                int count = transactionTemplate.execute(tx -> renormalize(projectId, status));
+                log.debug("Rebalanced {} ranks in project {} column {}", count, projectId, status);
+            } catch (RuntimeException e) {
+                // Usually a lock conflict with a concurrent move; the column is retried next run
+                log.warn("Rank rebalance of project {} column {} failed: {}", projectId, status, e.getMessage());
+                marked.add(column);
+            }
+        }
+    }
+
+    /**
+     * Rewrite a column to listPosition 0..n-1 with the ranks derived from those positions,
+     * keeping the current order. Must run inside a transaction (the column stays locked).
+     * A column without long ranks (the mark came from a rolled back move, or the issue
+     * moved on) is left as it is.
+     */
+    private int renormalize(String projectId, IssueStatus status) {
+        List<IssueBoardRepository.Placement> column = issueBoardRepository.lockColumn(projectId, status);
+        if (column.stream().noneMatch(placement -> placement.getListRank().length() > maxRankLength)) {
+            return 0;
+        }
+        for (int i = 0; i < column.size(); i++) {
+            column.get(i).setListPosition(i);
+            column.get(i).setListRank(LexoRank.forPosition(i));
+        }
+        // updatedAt moves so incremental sync clients pick up the new ranks
+        issueBoardRepository.applyPlacements(projectId, column, LocalDateTime.now());
+        return column.size();
+    }
+}
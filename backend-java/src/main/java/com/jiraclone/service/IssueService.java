@@ -1,29 +1,47 @@
 package com.jiraclone.service;
 
+import com.jiraclone.domain.entity.Comment;
 import com.jiraclone.domain.entity.Issue;
-import com.jiraclone.domain.entity.Permission;
-import com.jiraclone.domain.entity.Project;
+import com.jiraclone.domain.entity.Tombstone;
 import com.jiraclone.domain.entity.User;
+import com.jiraclone.domain.enums.ChangeEntityType;
 import com.jiraclone.domain.enums.ProjectRole;
-import com.jiraclone.domain.enums.UserRole;
+import com.jiraclone.domain.rank.LexoRank;
+import com.jiraclone.domain.repository.IssueAssignmentRepository;
+import com.jiraclone.domain.repository.IssueBoardRepository;
 import com.jiraclone.domain.repository.IssueRepository;
-import com.jiraclone.domain.repository.PermissionRepository;
-import com.jiraclone.domain.repository.ProjectRepository;
+import com.jiraclone.domain.repository.TombstoneRepository;
 import com.jiraclone.domain.repository.UserRepository;
+import com.jiraclone.dto.request.BoardMovesRequest;
 import com.jiraclone.dto.request.ConvertToSubtaskRequest;
 import com.jiraclone.dto.request.IssueRequest;
+import com.jiraclone.dto.response.BoardMoveResponse;
+import com.jiraclone.dto.response.CursorPage;
 import com.jiraclone.dto.response.IssueResponse;
-import com.jiraclone.exception.ForbiddenException;
+import com.jiraclone.event.IssueChangeType;
+import com.jiraclone.event.IssueChangedEvent;
+import com.jiraclone.exception.BadRequestException;
 import com.jiraclone.exception.ResourceNotFoundException;
+import com.jiraclone.search.IssueSearchIndex;
 import com.jiraclone.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -33,22 +51,79 @@ public class IssueService {
 
     private final IssueRepository issueRepository;
     private final UserRepository userRepository;
-    private final PermissionRepository permissionRepository;
-    private final ProjectRepository projectRepository;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final TombstoneRepository tombstoneRepository;
+    private final NdjsonStreamWriter ndjsonStreamWriter;
+    private final IssueSearchIndex issueSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IssueKeyAllocator issueKeyAllocator;
+    private final IssueAssignmentRepository issueAssignmentRepository;
+    private final IssueBoardRepository issueBoardRepository;
+    private final IssueRankRebalancer issueRankRebalancer;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
 
     @Transactional(readOnly = true)
     public List<IssueResponse> getAllIssues() {
-        return issueRepository.findAll().stream()
+        List<Issue> issues = issueRepository.findAllWithRelationships();
+        issueRepository.fetchAllSubtasks();
+        return issues.stream()
             .map(IssueResponse::from)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Stream all issues as NDJSON, read and mapped in keyset windows
+     */
+    @Transactional(readOnly = true)
+    public void streamAllIssues(OutputStream outputStream) throws IOException {
+        ndjsonStreamWriter.write(issueRepository::findWindowAfter, Issue::getId, IssueResponse::from, outputStream);
+    }
+
     @Transactional(readOnly = true)
     public Page<IssueResponse> getAllIssues(Pageable pageable) {
         return issueRepository.findAll(pageable)
             .map(IssueResponse::from);
     }
 
+    /**
+     * Keyset pagination on (listPosition, id): no OFFSET and no COUNT(*),
+     * so every page costs the same. One extra row is read to detect the last page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<IssueResponse> getAllIssues(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        String[] position = KeysetCursor.decode(cursor);
+        List<Issue> issues;
+        if (position == null) {
+            issues = issueRepository.findFirstKeysetPage(limit);
+        } else {
+            try {
+                issues = issueRepository.findKeysetPageAfter(
+                    Integer.valueOf(position[0]), position[1], limit);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Cursor inválido");
+            }
+        }
+
+        boolean hasMore = issues.size() > pageSize;
+        if (hasMore) {
+            issues = issues.subList(0, pageSize);
+        }
+        Issue last = issues.isEmpty() ? null : issues.get(issues.size() - 1);
+
+        return CursorPage.<IssueResponse>builder()
+            .items(issues.stream()
+                .map(IssueResponse::from)
+                .collect(Collectors.toList()))
+            .hasMore(hasMore)
+            .nextCursor(hasMore ? KeysetCursor.encode(last.getListPosition(), last.getId()) : null)
+            .build();
+    }
+
     @Transactional(readOnly = true)
     public IssueResponse getIssueById(String id) {
         Issue issue = issueRepository.findById(id)
@@ -56,17 +131,51 @@ public class IssueService {
         return IssueResponse.from(issue);
     }
 
+    /**
+     * Ranked search over key, title and description. Served from the in-memory
+     * index; falls back to the LIKE query while the index is still being built.
+     */
     @Transactional(readOnly = true)
-    public List<IssueResponse> searchIssues(String term, String projectId) {
-        return issueRepository.searchByTermAndProjectId(term, projectId).stream()
+    public List<IssueResponse> searchIssues(String term, String projectId, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        int offset = Math.max(page, 0) * pageSize;
+
+        List<String> ids = issueSearchIndex.isReady()
+            ? issueSearchIndex.search(term, projectId, offset, pageSize)
+            : issueRepository.searchIdsByTermAndProjectId(term, projectId, PageRequest.of(Math.max(page, 0), pageSize));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // The page with its relationships in two statements, whatever its size
+        Map<String, Issue> issuesById = new HashMap<>();
+        for (Issue issue : issueRepository.findAllByIdWithRelationships(ids)) {
+            issuesById.put(issue.getId(), issue);
+        }
+        issueRepository.fetchSubtasksByIdIn(ids);
+
+        // Keep relevance order
+        return ids.stream()
+            .map(issuesById::get)
+            .filter(Objects::nonNull)
             .map(IssueResponse::from)
             .collect(Collectors.toList());
     }
 
-    @Transactional
+    /**
+     * Not @Transactional: the key is allocated first, outside any transaction (see
+     * IssueKeyAllocator), and the issue is then written in a transaction of its own
+     */
     public IssueResponse createIssue(IssueRequest request, UserPrincipal currentUser) {
-        checkProjectPermission(request.getProjectId(), currentUser, ProjectRole.MEMBER);
+        projectAuthorizationService.checkProjectPermission(request.getProjectId(), currentUser, ProjectRole.MEMBER);
 
+        // Generate issue key
+        String issueKey = generateIssueKey(request.getProjectId());
+
+        return transactionTemplate.execute(status -> insertIssue(request, issueKey));
+    }
+
+    private IssueResponse insertIssue(IssueRequest request, String issueKey) {
         // Verify reporter exists
         userRepository.findById(request.getReporterId())
             .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getReporterId()));
@@ -74,9 +183,6 @@ public class IssueService {
         // Validate subtask rules
         validateSubtaskRules(request);
 
-        // Generate issue key
-        String issueKey = generateIssueKey(request.getProjectId());
-
         Issue issue = Issue.builder()
             .key(issueKey)
             .title(request.getTitle())
@@ -93,20 +199,23 @@ public class IssueService {
             .parentIssueId(request.getParentIssueId())
             .build();
 
-        issue = issueRepository.save(issue);
+        if (request.getAfterIssueId() != null || request.getBeforeIssueId() != null) {
+            placeIssue(issue, request);
+        }
 
         // Add assignees if provided
         if (request.getUserIds() != null && !request.getUserIds().isEmpty()) {
-            Set<User> assignees = new HashSet<>();
-            for (String userId : request.getUserIds()) {
-                User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-                assignees.add(user);
-            }
+            Set<User> assignees = resolveAssignees(request.getUserIds());
+            // The issue row must exist before issue_users rows reference it
+            issue = issueRepository.saveAndFlush(issue);
+            issueAssignmentRepository.insert(issue.getId(), request.getUserIds());
             issue.setAssignees(assignees);
+        } else {
             issue = issueRepository.save(issue);
         }
 
+        eventPublisher.publishEvent(IssueChangedEvent.of(IssueChangeType.CREATED, issue));
+
         return IssueResponse.from(issue);
     }
 
@@ -115,7 +224,7 @@ public class IssueService {
         Issue issue = issueRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
 
-        checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.MEMBER);
+        projectAuthorizationService.checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.MEMBER);
 
         // Validate subtask rules
         validateSubtaskRulesForUpdate(id, request);
@@ -124,8 +233,13 @@ public class IssueService {
         issue.setType(request.getType());
         issue.setStatus(request.getStatus());
         issue.setPriority(request.getPriority());
-        if (request.getListPosition() != null) {
+        if (request.getAfterIssueId() != null || request.getBeforeIssueId() != null) {
+            placeIssue(issue, request);
+        } else if (request.getListPosition() != null && !request.getListPosition().equals(issue.getListPosition())) {
+            // Clients send the whole issue on every edit; an unchanged listPosition is not
+            // a move and must not reset a rank placed between neighbours
             issue.setListPosition(request.getListPosition());
+            issue.setListRank(LexoRank.forPosition(request.getListPosition()));
         }
         issue.setDescription(request.getDescription());
         issue.setEstimate(request.getEstimate());
@@ -135,34 +249,204 @@ public class IssueService {
         issue.setProjectId(request.getProjectId());
         issue.setParentIssueId(request.getParentIssueId());
 
-        // Update assignees if provided
+        // Update assignees if provided, writing only the issue_users rows that changed
         if (request.getUserIds() != null) {
-            Set<User> assignees = new HashSet<>();
-            for (String userId : request.getUserIds()) {
-                User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-                assignees.add(user);
-            }
+            Set<User> assignees = resolveAssignees(request.getUserIds());
+
+            Set<String> current = new HashSet<>(issueAssignmentRepository.findUserIdsByIssueId(id));
+            Set<String> added = new HashSet<>(request.getUserIds());
+            added.removeAll(current);
+            Set<String> removed = new HashSet<>(current);
+            removed.removeAll(request.getUserIds());
+
+            issueAssignmentRepository.delete(id, removed);
+            issueAssignmentRepository.insert(id, added);
             issue.setAssignees(assignees);
+
+            if (!added.isEmpty() || !removed.isEmpty()) {
+                // Make the issue dirty so updatedAt moves for incremental sync
+                issue.setUpdatedAt(LocalDateTime.now());
+            }
         }
 
         issue = issueRepository.save(issue);
 
-        // Reload issue to get updated relationships
-        issue = issueRepository.findById(issue.getId())
-            .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
+        eventPublisher.publishEvent(IssueChangedEvent.of(IssueChangeType.UPDATED, issue));
 
         return IssueResponse.from(issue);
     }
 
+    /**
+     * Apply a batch of board moves (status + position) in one transaction.
+     * Permission is checked once and all rows are written as one JDBC batch.
+     *
+     * A move placed with afterIssueId/beforeIssueId gets a rank between those two
+     * issues and touches only its own row. Moves are applied in order, so a move may
+     * reference an issue moved earlier in the same batch.
+     */
+    @Transactional
+    public List<BoardMoveResponse> moveIssues(String projectId, BoardMovesRequest request,
+                                              UserPrincipal currentUser) {
+        projectAuthorizationService.checkProjectPermission(projectId, currentUser, ProjectRole.MEMBER);
+
+        List<BoardMovesRequest.Move> moves = request.getMoves();
+        Set<String> issueIds = moves.stream()
+            .map(BoardMovesRequest.Move::getIssueId)
+            .collect(Collectors.toSet());
+        if (issueIds.size() != moves.size()) {
+            throw new BadRequestException("Cada issue só pode aparecer uma vez por requisição");
+        }
+
+        Set<String> referencedIds = new HashSet<>(issueIds);
+        for (BoardMovesRequest.Move move : moves) {
+            if (move.getAfterIssueId() != null) {
+                referencedIds.add(move.getAfterIssueId());
+            }
+            if (move.getBeforeIssueId() != null) {
+                referencedIds.add(move.getBeforeIssueId());
+            }
+        }
+        Map<String, IssueBoardRepository.Placement> placements =
+            issueBoardRepository.lockPlacements(projectId, referencedIds);
+
+        List<IssueBoardRepository.Placement> moved = new ArrayList<>(moves.size());
+        for (BoardMovesRequest.Move move : moves) {
+            IssueBoardRepository.Placement placement = placements.get(move.getIssueId());
+            if (placement == null) {
+                throw new ResourceNotFoundException("Issue", "id", move.getIssueId());
+            }
+            placement.setStatus(move.getStatus());
+            place(projectId, placement, move.getListPosition(), move.getAfterIssueId(), move.getBeforeIssueId(),
+                placements);
+            moved.add(placement);
+        }
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        issueBoardRepository.applyPlacements(projectId, moved, updatedAt);
+
+        List<BoardMoveResponse> results = new ArrayList<>(moved.size());
+        for (IssueBoardRepository.Placement move : moved) {
+            eventPublisher.publishEvent(IssueChangedEvent.builder()
+                .type(IssueChangeType.MOVED)
+                .issueId(move.getIssueId())
+                .projectId(projectId)
+                .status(move.getStatus())
+                .listPosition(move.getListPosition())
+                .listRank(move.getListRank())
+                .build());
+            results.add(BoardMoveResponse.builder()
+                .issueId(move.getIssueId())
+                .status(move.getStatus())
+                .listPosition(move.getListPosition())
+                .listRank(move.getListRank())
+                .updatedAt(updatedAt)
+                .build());
+        }
+        return results;
+    }
+
+    private void placeIssue(Issue issue, IssueRequest request) {
+        Set<String> neighbourIds = new HashSet<>();
+        if (request.getAfterIssueId() != null) {
+            neighbourIds.add(request.getAfterIssueId());
+        }
+        if (request.getBeforeIssueId() != null) {
+            neighbourIds.add(request.getBeforeIssueId());
+        }
+        IssueBoardRepository.Placement placement = new IssueBoardRepository.Placement(
+            issue.getId(), issue.getStatus(), issue.getListPosition(), issue.getListRank());
+        place(issue.getProjectId(), placement, request.getListPosition(),
+            request.getAfterIssueId(), request.getBeforeIssueId(),
+            issueBoardRepository.lockPlacements(issue.getProjectId(), neighbourIds));
+        issue.setListPosition(placement.getListPosition());
+        issue.setListRank(placement.getListRank());
+    }
+
+    /**
+     * Compute a new placement. With neighbours the rank is split between them and
+     * listPosition follows the lower neighbour unless given; with only a listPosition
+     * the rank is derived from it. Does nothing when neither is given.
+     * A split rank that grew past the length limit marks its column for rebalancing.
+     */
+    private void place(String projectId, IssueBoardRepository.Placement target, Integer listPosition,
+                       String afterIssueId, String beforeIssueId,
+                       Map<String, IssueBoardRepository.Placement> placements) {
+        if (afterIssueId == null && beforeIssueId == null) {
+            if (listPosition != null) {
+                target.setListPosition(listPosition);
+                target.setListRank(LexoRank.forPosition(listPosition));
+            }
+            return;
+        }
+
+        IssueBoardRepository.Placement after = findNeighbour(target, afterIssueId, placements);
+        IssueBoardRepository.Placement before = findNeighbour(target, beforeIssueId, placements);
+        String lower = after != null ? after.getListRank() : null;
+        String upper = before != null ? before.getListRank() : null;
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new BadRequestException("afterIssueId deve estar antes de beforeIssueId");
+        }
+
+        target.setListRank(LexoRank.between(lower, upper));
+        issueRankRebalancer.markIfTooLong(projectId, target.getStatus(), target.getListRank());
+        if (listPosition != null) {
+            target.setListPosition(listPosition);
+        } else {
+            target.setListPosition(after != null ? after.getListPosition() : before.getListPosition());
+        }
+    }
+
+    private IssueBoardRepository.Placement findNeighbour(IssueBoardRepository.Placement target, String neighbourId,
+                                                         Map<String, IssueBoardRepository.Placement> placements) {
+        if (neighbourId == null) {
+            return null;
+        }
+        if (neighbourId.equals(target.getIssueId())) {
+            throw new BadRequestException("Uma issue não pode ser posicionada relativa a ela mesma");
+        }
+        IssueBoardRepository.Placement neighbour = placements.get(neighbourId);
+        if (neighbour == null) {
+            throw new ResourceNotFoundException("Issue", "id", neighbourId);
+        }
+        return neighbour;
+    }
+
     @Transactional
     public void deleteIssue(String id, UserPrincipal currentUser) {
         Issue issue = issueRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
 
-        checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.ADMIN);
+        projectAuthorizationService.checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.ADMIN);
+
+        // Subtasks and comments are removed by cascade, record them for incremental sync as well
+        List<Tombstone> tombstones = new ArrayList<>();
+        addDeletionTombstones(issue, tombstones);
+        for (Issue subtask : issue.getSubtasks()) {
+            addDeletionTombstones(subtask, tombstones);
+        }
 
         issueRepository.delete(issue);
+        tombstoneRepository.saveAll(tombstones);
+
+        eventPublisher.publishEvent(IssueChangedEvent.of(IssueChangeType.DELETED, issue));
+        for (Issue subtask : issue.getSubtasks()) {
+            eventPublisher.publishEvent(IssueChangedEvent.of(IssueChangeType.DELETED, subtask));
+        }
+    }
+
+    private static void addDeletionTombstones(Issue issue, List<Tombstone> tombstones) {
+        tombstones.add(Tombstone.builder()
+            .entityType(ChangeEntityType.ISSUE)
+            .entityId(issue.getId())
+            .projectId(issue.getProjectId())
+            .build());
+        for (Comment comment : issue.getComments()) {
+            tombstones.add(Tombstone.builder()
+                .entityType(ChangeEntityType.COMMENT)
+                .entityId(comment.getId())
+                .projectId(issue.getProjectId())
+                .build());
+        }
     }
 
     @Transactional
@@ -170,7 +454,7 @@ public class IssueService {
         Issue issue = issueRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
 
-        checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.MEMBER);
+        projectAuthorizationService.checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.MEMBER);
 
         // Validate conversion
         validateConvertToSubtask(issue, request.getParentIssueId());
@@ -181,9 +465,7 @@ public class IssueService {
 
         issue = issueRepository.save(issue);
 
-        // Reload to get updated relationships
-        issue = issueRepository.findById(issue.getId())
-            .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
+        eventPublisher.publishEvent(IssueChangedEvent.of(IssueChangeType.UPDATED, issue));
 
         return IssueResponse.from(issue);
     }
@@ -193,7 +475,7 @@ public class IssueService {
         Issue issue = issueRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
 
-        checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.MEMBER);
+        projectAuthorizationService.checkProjectPermission(issue.getProjectId(), currentUser, ProjectRole.MEMBER);
 
         // Validate: must be a subtask
         if (issue.getType() != com.jiraclone.domain.enums.IssueType.SUBTASK) {
@@ -206,28 +488,27 @@ public class IssueService {
 
         issue = issueRepository.save(issue);
 
-        // Reload to get updated relationships
-        issue = issueRepository.findById(issue.getId())
-            .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
+        eventPublisher.publishEvent(IssueChangedEvent.of(IssueChangeType.UPDATED, issue));
 
         return IssueResponse.from(issue);
     }
 
-    private void checkProjectPermission(String projectId, UserPrincipal currentUser,
-                                         ProjectRole requiredRole) {
-        if (currentUser.getRole() == UserRole.ADMIN) {
-            return; // System admin can do anything
-        }
-
-        Permission permission = permissionRepository
-            .findByUserIdAndProjectId(currentUser.getId(), projectId)
-            .orElseThrow(() -> new ForbiddenException(
-                "You do not have permission to access this project"));
-
-        if (!permission.getRole().hasPermission(requiredRole)) {
-            throw new ForbiddenException(
-                "Access denied. Requires " + requiredRole.getValue() + " role or higher.");
+    /**
+     * Load all assignees with a single IN query
+     */
+    private Set<User> resolveAssignees(Set<String> userIds) {
+        Set<User> assignees = new HashSet<>(userRepository.findAllById(userIds));
+        if (assignees.size() < userIds.size()) {
+            Set<String> found = assignees.stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+            String missing = userIds.stream()
+                .filter(userId -> !found.contains(userId))
+                .findFirst()
+                .orElse(null);
+            throw new ResourceNotFoundException("User", "id", missing);
         }
+        return assignees;
     }
 
     private void validateSubtaskRules(IssueRequest request) {
@@ -322,21 +603,6 @@ public class IssueService {
      * Example: "TFP-1", "TFP-2", "MNP-42"
      */
     private String generateIssueKey(String projectId) {
-        // Get project
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-
-        // Increment counter atomically
-        projectRepository.incrementIssueCounter(projectId);
-
-        // Flush to ensure counter is updated
-        projectRepository.flush();
-
-        // Reload project to get updated counter
-        project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-
-        // Generate key: PROJECT_KEY-COUNTER
-        return project.getKey() + "-" + project.getIssueCounter();
+        return issueKeyAllocator.nextKey(projectId);
     }
 }
@@ -2,6 +2,7 @@ package com.jiraclone.service;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -18,9 +19,24 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private SecretKey getSigningKey() {
+    @Value("${jwt.stream-token.expiration:60000}")
+    private long streamTokenExpiration;
+
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String PROJECT_CLAIM = "project";
+    private static final String EVENTS_SCOPE = "events";
+
+    // Built once: the key and parser are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(String userId, String email) {
@@ -32,29 +48,71 @@ public class JwtService {
                 .claim("email", email)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Short-lived token that only opens the event stream of one project. EventSource cannot
+     * send headers, so it is passed in the query string, where access logs record it.
+     */
+    public String generateStreamToken(String userId, String projectId) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + streamTokenExpiration);
+
+        return Jwts.builder()
+                .subject(userId)
+                .claim(SCOPE_CLAIM, EVENTS_SCOPE)
+                .claim(PROJECT_CLAIM, projectId)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey)
+                .compact();
+    }
+
+    public long getStreamTokenExpiration() {
+        return streamTokenExpiration;
+    }
 
+    /**
+     * User id of a valid stream token for the project, or null
+     */
+    public String getUserIdFromStreamToken(String token, String projectId) {
+        Claims claims = parseValidToken(token);
+        if (claims == null
+                || !EVENTS_SCOPE.equals(claims.get(SCOPE_CLAIM, String.class))
+                || !projectId.equals(claims.get(PROJECT_CLAIM, String.class))) {
+            return null;
+        }
         return claims.getSubject();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Whether the claims belong to a single-purpose token (stream token), which must
+     * not authenticate ordinary requests
+     */
+    public boolean isScopedToken(Claims claims) {
+        return claims.get(SCOPE_CLAIM) != null;
+    }
+
+    /**
+     * Parse and verify a token once, returning its claims or null if it is invalid or expired
+     */
+    public Claims parseValidToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
+
+    public String getUserIdFromToken(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+
+        return claims.getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return parseValidToken(token) != null;
+    }
 }
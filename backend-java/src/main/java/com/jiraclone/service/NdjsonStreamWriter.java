@@ -0,0 +1,72 @@
+package com.jiraclone.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes all rows of a table as newline-delimited JSON, reading them in keyset
+ * windows. Each window is mapped as a whole, so lazy associations are loaded in
+ * batches (hibernate.default_batch_fetch_size) rather than per row, and the
+ * persistence context is cleared after each window so memory stays flat.
+ *
+ * Must be called inside a read-only transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonStreamWriter {
+
+    private static final int WINDOW_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Next window of rows with a key greater than afterKey ("" for the first), in key order
+     */
+    @FunctionalInterface
+    public interface KeysetWindow<T> {
+        List<T> read(String afterKey, Pageable pageable);
+    }
+
+    public <T, R> long write(KeysetWindow<T> source, Function<T, String> keyOf, Function<T, R> mapper,
+                             OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        Pageable window = PageRequest.of(0, WINDOW_SIZE);
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            String afterKey = "";
+            List<T> rows;
+            do {
+                rows = source.read(afterKey, window);
+                for (T row : rows) {
+                    writer.writeValue(generator, mapper.apply(row));
+                    generator.writeRaw('\n');
+                }
+                if (!rows.isEmpty()) {
+                    afterKey = keyOf.apply(rows.get(rows.size() - 1));
+                    count += rows.size();
+                }
+                entityManager.clear();
+                generator.flush();
+            } while (rows.size() == WINDOW_SIZE);
+        }
+        return count;
+    }
+}
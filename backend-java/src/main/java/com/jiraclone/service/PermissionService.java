@@ -1,21 +1,25 @@
 package com.jiraclone.service;
 
 import com.jiraclone.domain.entity.Permission;
+import com.jiraclone.domain.entity.Tombstone;
+import com.jiraclone.domain.enums.ChangeEntityType;
 import com.jiraclone.domain.enums.ProjectRole;
-import com.jiraclone.domain.enums.UserRole;
 import com.jiraclone.domain.repository.PermissionRepository;
 import com.jiraclone.domain.repository.ProjectRepository;
+import com.jiraclone.domain.repository.TombstoneRepository;
 import com.jiraclone.domain.repository.UserRepository;
 import com.jiraclone.dto.request.PermissionRequest;
 import com.jiraclone.dto.response.PermissionResponse;
-import com.jiraclone.exception.ForbiddenException;
+import com.jiraclone.event.ProjectMemberRemovedEvent;
 import com.jiraclone.exception.ResourceNotFoundException;
 import com.jiraclone.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,9 +29,12 @@ public class PermissionService {
     private final PermissionRepository permissionRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<PermissionResponse> getProjectPermissions(String projectId, UserPrincipal currentUser) {
-        checkProjectAdminPermission(projectId, currentUser);
+        projectAuthorizationService.checkProjectAdminPermission(projectId, currentUser);
 
         return permissionRepository.findByProjectId(projectId).stream()
             .map(PermissionResponse::from)
@@ -36,7 +43,7 @@ public class PermissionService {
 
     public PermissionResponse getUserProjectPermission(String projectId, String userId,
                                                       UserPrincipal currentUser) {
-        checkProjectAdminPermission(projectId, currentUser);
+        projectAuthorizationService.checkProjectAdminPermission(projectId, currentUser);
 
         Permission permission = permissionRepository
             .findByUserIdAndProjectId(userId, projectId)
@@ -50,7 +57,7 @@ public class PermissionService {
     public PermissionResponse updateUserProjectPermission(String projectId, String userId,
                                                          PermissionRequest request,
                                                          UserPrincipal currentUser) {
-        checkProjectAdminPermission(projectId, currentUser);
+        projectAuthorizationService.checkProjectAdminPermission(projectId, currentUser);
 
         // Verify user exists
         userRepository.findById(userId)
@@ -58,6 +65,7 @@ public class PermissionService {
 
         // Verify project exists
         projectRepository.findById(projectId)
+            .filter(project -> !project.isDeleting())
             .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
         Permission permission = permissionRepository
@@ -67,6 +75,7 @@ public class PermissionService {
 
         permission.setRole(request.getRole());
         permission = permissionRepository.save(permission);
+        projectAuthorizationService.invalidate(userId, projectId);
 
         return PermissionResponse.from(permission);
     }
@@ -74,16 +83,26 @@ public class PermissionService {
     @Transactional
     public void removeUserProjectPermission(String projectId, String userId,
                                           UserPrincipal currentUser) {
-        checkProjectAdminPermission(projectId, currentUser);
+        projectAuthorizationService.checkProjectAdminPermission(projectId, currentUser);
 
+        Optional<Permission> permission = permissionRepository.findByUserIdAndProjectId(userId, projectId);
         permissionRepository.deleteByUserIdAndProjectId(userId, projectId);
+        projectAuthorizationService.invalidate(userId, projectId);
+        // Keyed like the upserts in the changes feed (PermissionResponse.id)
+        permission.ifPresent(removed -> tombstoneRepository.save(Tombstone.builder()
+            .entityType(ChangeEntityType.PERMISSION)
+            .entityId(removed.getId())
+            .projectId(projectId)
+            .build()));
+        // Open event streams of the user were authorized by this permission
+        eventPublisher.publishEvent(new ProjectMemberRemovedEvent(projectId, userId));
     }
 
     @Transactional
     public PermissionResponse addUserToProject(String projectId, String userId,
                                               ProjectRole role,
                                               UserPrincipal currentUser) {
-        checkProjectAdminPermission(projectId, currentUser);
+        projectAuthorizationService.checkProjectAdminPermission(projectId, currentUser);
 
         // Verify user exists
         userRepository.findById(userId)
@@ -91,6 +110,7 @@ public class PermissionService {
 
         // Verify project exists
         projectRepository.findById(projectId)
+            .filter(project -> !project.isDeleting())
             .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
         Permission permission = Permission.builder()
@@ -100,22 +120,8 @@ public class PermissionService {
             .build();
 
         permission = permissionRepository.save(permission);
+        projectAuthorizationService.invalidate(userId, projectId);
         return PermissionResponse.from(permission);
     }
 
-    private void checkProjectAdminPermission(String projectId, UserPrincipal currentUser) {
-        if (currentUser.getRole() == UserRole.ADMIN) {
-            return; // System admin can do anything
-        }
-
-        Permission permission = permissionRepository
-            .findByUserIdAndProjectId(currentUser.getId(), projectId)
-            .orElseThrow(() -> new ForbiddenException(
-                "Você não tem permissão para acessar este projeto"));
-
-        if (permission.getRole() != ProjectRole.ADMIN) {
-            throw new ForbiddenException(
-                "Acesso negado. Requer permissão de admin no projeto.");
-        }
-    }
 }
@@ -0,0 +1,114 @@
+package com.jiraclone.service;
+
+import com.jiraclone.cache.BoundedTtlCache;
+import com.jiraclone.cache.CacheInvalidation;
+import com.jiraclone.cache.CacheRegistry;
+import com.jiraclone.domain.entity.Permission;
+import com.jiraclone.domain.enums.ProjectRole;
+import com.jiraclone.domain.enums.UserRole;
+import com.jiraclone.domain.repository.PermissionRepository;
+import com.jiraclone.event.ProjectDeletedEvent;
+import com.jiraclone.exception.ForbiddenException;
+import com.jiraclone.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Project-level authorization decisions, backed by a bounded TTL cache of
+ * (userId, projectId) -> ProjectRole. A cached null means "no permission".
+ *
+ * Writes to permissions must call one of the invalidate methods; entries are
+ * dropped immediately and again after the surrounding transaction commits.
+ * Cache misses that reach the permissions table are counted as authorization.permission.lookups.
+ */
+@Service
+public class ProjectAuthorizationService {
+
+    private final PermissionRepository permissionRepository;
+    private final BoundedTtlCache<Map.Entry<String, String>, ProjectRole> roles;
+    private final Counter permissionLookups;
+
+    public ProjectAuthorizationService(PermissionRepository permissionRepository,
+                                       CacheRegistry cacheRegistry,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${authorization.cache.max-size:10000}") int maxSize,
+                                       @Value("${authorization.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.permissionRepository = permissionRepository;
+        this.roles = cacheRegistry.create("project-roles", maxSize, Duration.ofSeconds(ttlSeconds));
+        this.permissionLookups = meterRegistry.counter("authorization.permission.lookups");
+    }
+
+    /**
+     * Role of the user in the project, or null if the user has no permission on it
+     */
+    public ProjectRole getRole(String userId, String projectId) {
+        return roles.get(Map.entry(userId, projectId), key -> {
+            permissionLookups.increment();
+            return permissionRepository.findByUserIdAndProjectId(key.getKey(), key.getValue())
+                .map(Permission::getRole)
+                .orElse(null);
+        });
+    }
+
+    public void checkProjectPermission(String projectId, UserPrincipal currentUser,
+                                       ProjectRole requiredRole) {
+        if (currentUser.getRole() == UserRole.ADMIN) {
+            return; // System admin can do anything
+        }
+
+        ProjectRole role = getRole(currentUser.getId(), projectId);
+        if (role == null) {
+            throw new ForbiddenException("You do not have permission to access this project");
+        }
+
+        if (!role.hasPermission(requiredRole)) {
+            throw new ForbiddenException(
+                "Access denied. Requires " + requiredRole.getValue() + " role or higher.");
+        }
+    }
+
+    public void checkProjectAdminPermission(String projectId, UserPrincipal currentUser) {
+        if (currentUser.getRole() == UserRole.ADMIN) {
+            return; // System admin can do anything
+        }
+
+        ProjectRole role = getRole(currentUser.getId(), projectId);
+        if (role == null) {
+            throw new ForbiddenException("Você não tem permissão para acessar este projeto");
+        }
+
+        if (role != ProjectRole.ADMIN) {
+            throw new ForbiddenException("Acesso negado. Requer permissão de admin no projeto.");
+        }
+    }
+
+    public boolean isProjectAdmin(String projectId, UserPrincipal currentUser) {
+        return currentUser.getRole() == UserRole.ADMIN
+            || getRole(currentUser.getId(), projectId) == ProjectRole.ADMIN;
+    }
+
+    public void invalidate(String userId, String projectId) {
+        Map.Entry<String, String> key = Map.entry(userId, projectId);
+        CacheInvalidation.runNowAndAfterCommit(() -> roles.invalidate(key));
+    }
+
+    public void invalidateUser(String userId) {
+        CacheInvalidation.runNowAndAfterCommit(() -> roles.invalidateIf(key -> key.getKey().equals(userId)));
+    }
+
+    public void invalidateProject(String projectId) {
+        CacheInvalidation.runNowAndAfterCommit(() -> roles.invalidateIf(key -> key.getValue().equals(projectId)));
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        String projectId = event.getProjectId();
+        roles.invalidateIf(key -> key.getValue().equals(projectId));
+    }
+}
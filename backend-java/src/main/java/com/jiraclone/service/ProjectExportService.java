@@ -0,0 +1,204 @@
+package com.jiraclone.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiraclone.domain.entity.Comment;
+import com.jiraclone.domain.entity.Issue;
+import com.jiraclone.domain.entity.Permission;
+import com.jiraclone.domain.entity.Project;
+import com.jiraclone.domain.repository.CommentRepository;
+import com.jiraclone.domain.repository.IssueAssignmentRepository;
+import com.jiraclone.domain.repository.IssueRepository;
+import com.jiraclone.domain.repository.PermissionRepository;
+import com.jiraclone.domain.repository.ProjectRepository;
+import com.jiraclone.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a project in the example-project.json format that ProjectImportService reads:
+ * project fields, "users" (memberships, with role) and "issues" (parents first, then
+ * subtasks with parentIssueId), each issue carrying its userIds and comments.
+ *
+ * Issues are read in keyset chunks of export.chunk-size with their assignees and
+ * comments fetched per chunk, and written straight to the output through a JsonGenerator.
+ * No transaction spans the export, so nothing accumulates in a persistence context;
+ * the output is not a point-in-time snapshot of a project being edited.
+ */
+@Slf4j
+@Service
+public class ProjectExportService {
+
+    private final ProjectRepository projectRepository;
+    private final IssueRepository issueRepository;
+    private final IssueAssignmentRepository issueAssignmentRepository;
+    private final CommentRepository commentRepository;
+    private final PermissionRepository permissionRepository;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ProjectExportService(ProjectRepository projectRepository,
+                                IssueRepository issueRepository,
+                                IssueAssignmentRepository issueAssignmentRepository,
+                                CommentRepository commentRepository,
+                                PermissionRepository permissionRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${export.chunk-size:500}") int chunkSize) {
+        this.projectRepository = projectRepository;
+        this.issueRepository = issueRepository;
+        this.issueAssignmentRepository = issueAssignmentRepository;
+        this.commentRepository = commentRepository;
+        this.permissionRepository = permissionRepository;
+        this.objectMapper = objectMapper;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    public void exportProject(String projectId, OutputStream outputStream, boolean gzip) throws IOException {
+        Project project = projectRepository.findById(projectId)
+            .filter(p -> !p.isDeleting())
+            .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+
+        long start = System.nanoTime();
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : outputStream;
+        long issueCount;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            generator.writeStartObject();
+            generator.writeStringField("id", project.getId());
+            generator.writeStringField("name", project.getName());
+            generator.writeStringField("url", project.getUrl());
+            generator.writeStringField("description", project.getDescription());
+            generator.writeStringField("category", project.getCategory().getValue());
+            writeDate(generator, "createdAt", project.getCreatedAt());
+            writeDate(generator, "updatedAt", project.getUpdatedAt());
+
+            writeMembers(generator, project);
+
+            generator.writeArrayFieldStart("issues");
+            issueCount = writeIssues(generator, projectId, issueRepository::findParentIssueChunk);
+            issueCount += writeIssues(generator, projectId, issueRepository::findSubtaskChunk);
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+
+        log.info("Project exported: '{}', {} issues in {} ms",
+            project.getName(), issueCount, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void writeMembers(JsonGenerator generator, Project project) throws IOException {
+        generator.writeArrayFieldStart("users");
+        for (Permission permission : permissionRepository.findByProjectId(project.getId())) {
+            generator.writeStartObject();
+            generator.writeStringField("id", permission.getUserId());
+            generator.writeStringField("name", permission.getUser().getName());
+            generator.writeStringField("avatarUrl", permission.getUser().getAvatarUrl());
+            generator.writeStringField("projectId", project.getId());
+            generator.writeStringField("role", permission.getRole().name());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Write every issue returned by the chunk query, one keyset chunk at a time
+     */
+    private long writeIssues(JsonGenerator generator, String projectId,
+                             ChunkQuery chunkQuery) throws IOException {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        String afterId = "";
+        long count = 0;
+
+        while (true) {
+            List<Issue> issues = chunkQuery.apply(projectId, afterId, chunk);
+            if (issues.isEmpty()) {
+                return count;
+            }
+
+            List<String> issueIds = issues.stream().map(Issue::getId).toList();
+            Map<String, List<String>> userIdsByIssueId = issueAssignmentRepository.findUserIdsByIssueIds(issueIds);
+            Map<String, List<Comment>> commentsByIssueId = new HashMap<>();
+            for (Comment comment : commentRepository.findByIssueIdInOrderByCreatedAtAsc(issueIds)) {
+                commentsByIssueId.computeIfAbsent(comment.getIssueId(), id -> new ArrayList<>()).add(comment);
+            }
+
+            for (Issue issue : issues) {
+                writeIssue(generator, issue,
+                    userIdsByIssueId.getOrDefault(issue.getId(), List.of()),
+                    commentsByIssueId.getOrDefault(issue.getId(), List.of()));
+            }
+            generator.flush();
+
+            count += issues.size();
+            if (issues.size() < chunkSize) {
+                return count;
+            }
+            afterId = issues.get(issues.size() - 1).getId();
+        }
+    }
+
+    private void writeIssue(JsonGenerator generator, Issue issue, List<String> userIds,
+                            List<Comment> comments) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", issue.getId());
+        generator.writeStringField("title", issue.getTitle());
+        generator.writeStringField("type", issue.getType().getValue());
+        generator.writeStringField("status", issue.getStatus().getValue());
+        generator.writeStringField("priority", issue.getPriority().getValue());
+        generator.writeNumberField("listPosition", issue.getListPosition());
+        generator.writeStringField("listRank", issue.getListRank());
+        generator.writeStringField("description", issue.getDescription());
+        generator.writeStringField("reporterId", issue.getReporterId());
+        if (issue.getParentIssueId() != null) {
+            generator.writeStringField("parentIssueId", issue.getParentIssueId());
+        }
+        writeDate(generator, "createdAt", issue.getCreatedAt());
+        writeDate(generator, "updatedAt", issue.getUpdatedAt());
+
+        generator.writeArrayFieldStart("userIds");
+        for (String userId : userIds) {
+            generator.writeString(userId);
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("comments");
+        for (Comment comment : comments) {
+            generator.writeStartObject();
+            generator.writeStringField("id", comment.getId());
+            generator.writeStringField("body", comment.getBody());
+            generator.writeStringField("userId", comment.getUserId());
+            writeDate(generator, "createdAt", comment.getCreatedAt());
+            writeDate(generator, "updatedAt", comment.getUpdatedAt());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * ISO instant, the inverse of the import's conversion to server-local time
+     */
+    private static void writeDate(JsonGenerator generator, String field, LocalDateTime value) throws IOException {
+        generator.writeStringField(field,
+            value != null ? value.atZone(ZoneId.systemDefault()).toInstant().toString() : null);
+    }
+
+    @FunctionalInterface
+    private interface ChunkQuery {
+        List<Issue> apply(String projectId, String afterId, Pageable pageable);
+    }
+}
@@ -1,22 +1,44 @@
 package com.jiraclone.service;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.jiraclone.domain.entity.*;
 import com.jiraclone.domain.enums.*;
+import com.jiraclone.domain.rank.LexoRank;
 import com.jiraclone.domain.repository.*;
+import com.jiraclone.event.IssueChangeType;
+import com.jiraclone.event.IssueChangedEvent;
+import com.jiraclone.exception.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.zip.GZIPInputStream;
 
 @Slf4j
 @Service
@@ -28,102 +50,168 @@ public class ProjectImportService {
     private final IssueRepository issueRepository;
     private final PermissionRepository permissionRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final IssueKeyAllocator issueKeyAllocator;
+    private final IssueBulkRepository issueBulkRepository;
+    private final IssueAssignmentRepository issueAssignmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectPurgeService projectPurgeService;
+    private final IssueRankRebalancer issueRankRebalancer;
+
+    @Value("${import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Import a project from a JSON document in the example-project.json format,
+     * plain or gzip-compressed (detected from the first bytes).
+     *
+     * The document is read token by token and issues are materialized one at a time,
+     * so heap use does not grow with the file: issue ids are derived from the file's ref
+     * ids, so no ref id to issue id map is kept (ref ids must be unique within the file).
+     * Project fields must come before the "issues" array. The project and owner
+     * permission are committed first, then issues are written with JDBC batches in
+     * chunks of import.batch-size, each chunk with its own key range and transaction.
+     *
+     * What refers to users of this instance is kept when the user exists, so an export
+     * imported on the same instance restores it: "users" become members with their role,
+     * and issues keep their reporterId, userIds and comments. References to unknown users
+     * fall back to the importing owner (issues without userIds are assigned to the owner).
+     * A valid listRank is kept, otherwise the rank is derived from listPosition.
+     * If anything fails or the job is cancelled, the partially imported project is removed again.
+     *
+     * @param job receives phase and row progress and is polled for cancellation
+     */
+    public Map<String, Object> importProject(InputStream source, String ownerId, String sourceName, ImportJob job) {
+        long start = System.nanoTime();
 
-    @PersistenceContext
-    private jakarta.persistence.EntityManager entityManager;
-
-    @Transactional
-    public Map<String, Object> importProject(String fileName, String ownerId) {
-        String dataFile = "data/" + fileName + ".json";
-
-        // Load owner within transaction
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new IllegalStateException("User not found: " + ownerId));
 
-        try {
-            ClassPathResource resource = new ClassPathResource(dataFile);
-            if (!resource.exists()) {
-                throw new IllegalStateException("Seed file not found: " + dataFile);
+        Project project = null;
+        int issueCount;
+        try (JsonParser parser = objectMapper.createParser(decompressIfGzipped(source));
+             IssueImport issueImport = new IssueImport(owner, job)) {
+            job.setPhase("reading project");
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new BadRequestException("Arquivo de importação inválido: objeto JSON esperado");
             }
 
-            InputStream inputStream = resource.getInputStream();
-            JsonNode rootNode = objectMapper.readTree(inputStream);
-
-            String projectName = rootNode.get("name").asText();
-
-            // Check if project already exists
-            boolean projectExists = projectRepository.findByIsPublicTrue().stream()
-                    .anyMatch(p -> projectName.equals(p.getName()));
-            if (projectExists) {
-                throw new IllegalStateException("Project '" + projectName + "' already exists");
+            ObjectNode projectNode = objectMapper.createObjectNode();
+            JsonNode members = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("issues".equals(field)) {
+                    if (value != JsonToken.START_ARRAY) {
+                        throw new BadRequestException("Arquivo de importação inválido: 'issues' deve ser uma lista");
+                    }
+                    project = createProjectWithOwner(projectNode, owner);
+                    issueImport.start(project);
+                    job.setPhase("importing issues");
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        issueImport.add(objectMapper.readTree(parser));
+                    }
+                } else if ("users".equals(field) && value == JsonToken.START_ARRAY) {
+                    members = objectMapper.readTree(parser);
+                } else if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                    // other nested data is not imported
+                    parser.skipChildren();
+                } else {
+                    projectNode.set(field, objectMapper.readTree(parser));
+                }
             }
 
-            // Create project
-            Project project = createProject(rootNode);
-            entityManager.flush();
-
-            // Create permission for owner
-            createPermission(project, owner);
-            entityManager.flush();
-
-            // Create issues with subtask support (two-pass)
-            int issueCount = createIssuesWithSubtasks(rootNode, project, owner);
-
-            log.info("Project imported: '{}', {} issues, owner: {}",
-                    project.getName(), issueCount, owner.getName());
-
-            Map<String, Object> result = new LinkedHashMap<>();
-            result.put("projectId", project.getId());
-            result.put("projectKey", project.getKey());
-            result.put("projectName", project.getName());
-            result.put("issueCount", issueCount);
-            result.put("owner", owner.getName());
-            return result;
-
-        } catch (IllegalStateException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Error importing project from {}", dataFile, e);
+            if (project == null) {
+                project = createProjectWithOwner(projectNode, owner);
+                issueImport.start(project);
+            }
+            issueCount = issueImport.finish();
+            if (members != null) {
+                importMembers(project, owner, members);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (project != null) {
+                String projectId = project.getId();
+                log.error("Error importing issues from {}, removing project {}", sourceName, projectId, e);
+                transactionTemplate.executeWithoutResult(status -> deleteProject(projectId));
+            }
+            if (e instanceof IllegalStateException || e instanceof BadRequestException
+                    || e instanceof CancellationException) {
+                throw (RuntimeException) e;
+            }
+            if (e instanceof JsonProcessingException) {
+                throw new BadRequestException("Arquivo de importação inválido: " + e.getMessage());
+            }
+            log.error("Error importing project from {}", sourceName, e);
             throw new RuntimeException("Failed to import project: " + e.getMessage(), e);
         }
+
+        long durationMs = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        long issuesPerSecond = issueCount * 1000L / durationMs;
+        log.info("Project imported from {}: '{}', {} issues in {} ms ({} issues/s), owner: {}",
+                sourceName, project.getName(), issueCount, durationMs, issuesPerSecond, owner.getName());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("projectId", project.getId());
+        result.put("projectKey", project.getKey());
+        result.put("projectName", project.getName());
+        result.put("issueCount", issueCount);
+        result.put("owner", owner.getName());
+        result.put("durationMs", durationMs);
+        result.put("issuesPerSecond", issuesPerSecond);
+        return result;
     }
 
+    /**
+     * Mark the project for deletion; its issues are purged in the background by ProjectPurgeService
+     */
     @Transactional
     public Map<String, Object> deleteProject(String projectId) {
         Project project = projectRepository.findById(projectId)
+                .filter(p -> !p.isDeleting())
                 .orElseThrow(() -> new IllegalStateException("Project not found: " + projectId));
 
-        long issueCount = issueRepository.findByProjectIdOrderByListPositionAsc(projectId).size();
+        long issueCount = issueRepository.countByProjectId(projectId);
+        projectPurgeService.markForDeletion(project);
 
-        // Delete all via native queries to avoid lazy loading / FK issues
-        entityManager.createNativeQuery("DELETE FROM issue_users WHERE issue_id IN (SELECT id FROM issues WHERE project_id = :pid)")
-                .setParameter("pid", projectId).executeUpdate();
-        entityManager.createNativeQuery("DELETE FROM comments WHERE issue_id IN (SELECT id FROM issues WHERE project_id = :pid)")
-                .setParameter("pid", projectId).executeUpdate();
-        entityManager.createNativeQuery("DELETE FROM issues WHERE project_id = :pid AND parent_issue_id IS NOT NULL")
-                .setParameter("pid", projectId).executeUpdate();
-        entityManager.createNativeQuery("DELETE FROM issues WHERE project_id = :pid")
-                .setParameter("pid", projectId).executeUpdate();
-        entityManager.createNativeQuery("DELETE FROM permissions WHERE project_id = :pid")
-                .setParameter("pid", projectId).executeUpdate();
-        entityManager.createNativeQuery("DELETE FROM projects WHERE id = :pid")
-                .setParameter("pid", projectId).executeUpdate();
-
-        log.info("Project deleted: {} ({})", project.getName(), projectId);
+        log.info("Project marked for deletion: {} ({}), {} issues to purge", project.getName(), projectId, issueCount);
 
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("deletedProjectId", projectId);
         result.put("deletedProjectName", project.getName());
-        result.put("deletedIssues", issueCount);
+        result.put("issuesToPurge", issueCount);
         return result;
     }
 
+    private Project createProjectWithOwner(JsonNode projectNode, User owner) {
+        if (!projectNode.hasNonNull("name")) {
+            throw new BadRequestException("Arquivo de importação inválido: campos do projeto devem vir antes de 'issues'");
+        }
+        String projectName = projectNode.get("name").asText();
+
+        // Check if project already exists
+        boolean projectExists = projectRepository.findByIsPublicTrue().stream()
+                .anyMatch(p -> projectName.equals(p.getName()));
+        if (projectExists) {
+            throw new IllegalStateException("Project '" + projectName + "' already exists");
+        }
+
+        return transactionTemplate.execute(status -> {
+            Project created = createProject(projectNode);
+            createPermission(created, owner, ProjectRole.ADMIN);
+            return created;
+        });
+    }
+
     private Project createProject(JsonNode rootNode) {
         Project project = new Project();
         project.setName(rootNode.get("name").asText());
         project.setUrl(rootNode.has("url") && !rootNode.get("url").isNull()
                 ? rootNode.get("url").asText() : null);
-        project.setDescription(rootNode.get("description").asText());
+        project.setDescription(rootNode.hasNonNull("description")
+                ? rootNode.get("description").asText() : null);
         project.setCategory(ProjectCategory.valueOf(
                 rootNode.get("category").asText().toUpperCase()));
         project.setIsPublic(true);
@@ -136,6 +224,22 @@ public class ProjectImportService {
     }
 
     private String generateProjectKey(String name) {
+        String candidateKey = baseProjectKey(name);
+
+        String finalKey = candidateKey;
+        int counter = 1;
+        while (projectRepository.existsByKey(finalKey)) {
+            finalKey = candidateKey + counter;
+            counter++;
+        }
+
+        return finalKey;
+    }
+
+    /**
+     * Key candidate derived from the project name, before the uniqueness check
+     */
+    static String baseProjectKey(String name) {
         String baseKey = name.replaceAll("[^A-Za-z\\s]", "").trim().toUpperCase();
         String[] words = baseKey.split("\\s+");
         StringBuilder keyBuilder = new StringBuilder();
@@ -155,112 +259,266 @@ public class ProjectImportService {
         if (candidateKey.length() < 2) {
             candidateKey = candidateKey + "01";
         }
-        candidateKey = candidateKey.substring(0, Math.min(10, candidateKey.length()));
+        return candidateKey.substring(0, Math.min(10, candidateKey.length()));
+    }
 
-        String finalKey = candidateKey;
-        int counter = 1;
-        while (projectRepository.existsByKey(finalKey)) {
-            finalKey = candidateKey + counter;
-            counter++;
+    /**
+     * Members of the file that exist on this instance, with their role (MEMBER if absent)
+     */
+    private void importMembers(Project project, User owner, JsonNode members) {
+        Map<String, ProjectRole> rolesByUserId = new HashMap<>();
+        for (JsonNode member : members) {
+            String userId = member.path("id").asText(null);
+            if (userId != null && !userId.equals(owner.getId())) {
+                rolesByUserId.put(userId, member.hasNonNull("role")
+                        ? ProjectRole.valueOf(member.get("role").asText().toUpperCase())
+                        : ProjectRole.MEMBER);
+            }
         }
-
-        return finalKey;
+        transactionTemplate.executeWithoutResult(status -> {
+            for (User user : userRepository.findAllById(rolesByUserId.keySet())) {
+                createPermission(project, user, rolesByUserId.get(user.getId()));
+            }
+        });
     }
 
-    private void createPermission(Project project, User user) {
+    private void createPermission(Project project, User user, ProjectRole role) {
         Permission permission = new Permission();
         permission.setUserId(user.getId());
         permission.setProjectId(project.getId());
         permission.setUser(user);
         permission.setProject(project);
-        permission.setRole(ProjectRole.ADMIN);
+        permission.setRole(role);
         permission.setCreatedAt(LocalDateTime.now());
         permission.setUpdatedAt(LocalDateTime.now());
         permissionRepository.save(permission);
+        projectAuthorizationService.invalidate(user.getId(), project.getId());
     }
 
-    private int createIssuesWithSubtasks(JsonNode rootNode, Project project, User owner) {
-        JsonNode issuesNode = rootNode.get("issues");
-        Map<String, Issue> issuesMap = new LinkedHashMap<>();
-        List<JsonNode> subtaskNodes = new ArrayList<>();
-        int counter = 0;
-
-        // Pass 1: Create parent issues (TASK, STORY, BUG)
-        for (JsonNode issueNode : issuesNode) {
-            String type = issueNode.get("type").asText().toUpperCase();
-            if ("SUBTASK".equals(type)) {
-                subtaskNodes.add(issueNode);
-                continue;
+    /**
+     * Issues of one import, written in chunks as they are read.
+     *
+     * Keeps the two-pass semantics: parent issues (TASK, STORY, BUG) are written as they
+     * arrive and subtasks are spilled to a temp file and written after the last issue.
+     * Issue ids are name-based UUIDs of (project id, ref id), so a subtask's parent id is
+     * computed from its parent ref id and checked against the database one chunk at a
+     * time. Subtasks whose parent never shows up are skipped.
+     */
+    private final class IssueImport implements Closeable {
+
+        private final User owner;
+        private final ImportJob job;
+        private final List<Issue> pending = new ArrayList<>();
+        // Of the pending chunk: userIds per issue (absent when the file has none) and comments,
+        // both with user ids as found in the file
+        private final Map<String, List<String>> pendingAssignees = new HashMap<>();
+        private final List<Comment> pendingComments = new ArrayList<>();
+        private Project project;
+        private Path deferredFile;
+        private JsonGenerator deferred;
+        private int imported;
+
+        IssueImport(User owner, ImportJob job) {
+            this.owner = owner;
+            this.job = job;
+        }
+
+        void start(Project project) {
+            this.project = project;
+        }
+
+        void add(JsonNode node) throws IOException {
+            if ("SUBTASK".equals(node.get("type").asText().toUpperCase())) {
+                defer(node);
+            } else {
+                enqueue(buildIssue(node, project, owner, issueIdFor(node.get("id").asText()), null), node);
             }
+        }
 
-            Issue savedIssue = createIssue(issueNode, project, owner, null);
-            String refId = issueNode.get("id").asText();
-            issuesMap.put(refId, savedIssue);
-            counter++;
+        int finish() throws IOException {
+            flush();
+            if (deferred != null) {
+                deferred.close();
+                deferred = null;
+                job.setPhase("importing deferred subtasks");
+                List<JsonNode> subtasks = new ArrayList<>();
+                try (MappingIterator<JsonNode> nodes = objectMapper.readerFor(JsonNode.class).readValues(deferredFile.toFile())) {
+                    while (nodes.hasNext()) {
+                        subtasks.add(nodes.next());
+                        if (subtasks.size() >= Math.max(batchSize, 1)) {
+                            enqueueWithKnownParents(subtasks);
+                        }
+                    }
+                }
+                enqueueWithKnownParents(subtasks);
+            }
+            flush();
+            return imported;
         }
 
-        entityManager.flush();
+        /**
+         * Id of the issue imported from a ref id of this file
+         */
+        private String issueIdFor(String refId) {
+            return UUID.nameUUIDFromBytes((project.getId() + ":" + refId).getBytes(StandardCharsets.UTF_8)).toString();
+        }
 
-        // Pass 2: Create subtask issues
-        for (JsonNode issueNode : subtaskNodes) {
-            String parentRefId = issueNode.get("parentIssueId").asText();
-            Issue parentIssue = issuesMap.get(parentRefId);
+        /**
+         * Enqueue the subtasks whose parent was imported (one IN query) and clear the list
+         */
+        private void enqueueWithKnownParents(List<JsonNode> subtasks) {
+            Set<String> parentIds = new HashSet<>();
+            subtasks.forEach(node -> parentIds.add(issueIdFor(node.get("parentIssueId").asText())));
+            Set<String> knownParentIds = new HashSet<>(issueRepository.findIdsByProjectIdAndIdIn(project.getId(), parentIds));
+            for (JsonNode node : subtasks) {
+                String parentIssueId = issueIdFor(node.get("parentIssueId").asText());
+                if (knownParentIds.contains(parentIssueId)) {
+                    enqueue(buildIssue(node, project, owner, issueIdFor(node.get("id").asText()), parentIssueId), node);
+                } else {
+                    log.warn("Parent issue not found for subtask '{}', skipping", node.get("title").asText());
+                }
+            }
+            subtasks.clear();
+        }
 
-            if (parentIssue == null) {
-                log.warn("Parent issue '{}' not found for subtask '{}', skipping",
-                        parentRefId, issueNode.get("title").asText());
-                continue;
+        private void enqueue(Issue issue, JsonNode node) {
+            pending.add(issue);
+            if (node.has("userIds")) {
+                List<String> userIds = new ArrayList<>();
+                node.get("userIds").forEach(userId -> userIds.add(userId.asText()));
+                pendingAssignees.put(issue.getId(), userIds);
             }
+            for (JsonNode comment : node.path("comments")) {
+                pendingComments.add(buildComment(comment, issue.getId()));
+            }
+            if (pending.size() >= Math.max(batchSize, 1)) {
+                flush();
+            }
+        }
 
-            Issue savedIssue = createIssue(issueNode, project, owner, parentIssue.getId());
-            String refId = issueNode.get("id").asText();
-            issuesMap.put(refId, savedIssue);
-            counter++;
+        private void defer(JsonNode node) throws IOException {
+            if (deferred == null) {
+                deferredFile = Files.createTempFile("import-subtasks-", ".ndjson");
+                deferred = objectMapper.getFactory().createGenerator(deferredFile.toFile(), JsonEncoding.UTF8);
+                deferred.setRootValueSeparator(new SerializedString("\n"));
+            }
+            objectMapper.writeTree(deferred, node);
         }
 
-        // Update project issue counter
-        project.setIssueCounter(counter);
-        projectRepository.save(project);
+        /**
+         * Reserve keys for and insert the pending chunk in one transaction
+         */
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            job.checkCancelled();
+            Map<String, List<String>> assignees = resolveUsers();
+            int counter = issueKeyAllocator.reserveRange(project.getId(), pending.size());
+            for (Issue issue : pending) {
+                issue.setKey(project.getKey() + "-" + counter++);
+            }
 
-        return counter;
-    }
+            transactionTemplate.executeWithoutResult(status -> {
+                issueBulkRepository.insertAll(pending);
+                issueAssignmentRepository.insertAll(assignees);
+                issueBulkRepository.insertComments(pendingComments);
+                pending.forEach(issue -> eventPublisher.publishEvent(
+                        IssueChangedEvent.of(IssueChangeType.CREATED, issue)));
+            });
+
+            imported += pending.size();
+            job.addRows(pending.size());
+            pending.clear();
+            pendingAssignees.clear();
+            pendingComments.clear();
+        }
 
-    private Issue createIssue(JsonNode node, Project project, User owner, String parentIssueId) {
-        projectRepository.incrementIssueCounter(project.getId());
-        entityManager.flush();
-        entityManager.refresh(project);
-        String issueKey = project.getKey() + "-" + project.getIssueCounter();
+        /**
+         * Replace user ids of the pending chunk that do not exist here by the owner (one IN
+         * query) and return the assignees per issue
+         */
+        private Map<String, List<String>> resolveUsers() {
+            Set<String> userIds = new HashSet<>();
+            pending.forEach(issue -> userIds.add(issue.getReporterId()));
+            pendingAssignees.values().forEach(userIds::addAll);
+            pendingComments.forEach(comment -> userIds.add(comment.getUserId()));
+            userIds.remove(null);
+            Set<String> knownUserIds = new HashSet<>(userRepository.findIdsByIdIn(userIds));
+
+            Map<String, List<String>> assignees = new HashMap<>();
+            for (Issue issue : pending) {
+                if (!knownUserIds.contains(issue.getReporterId())) {
+                    issue.setReporterId(owner.getId());
+                }
+                List<String> fileUserIds = pendingAssignees.get(issue.getId());
+                if (fileUserIds == null) {
+                    assignees.put(issue.getId(), List.of(owner.getId()));
+                    continue;
+                }
+                List<String> known = fileUserIds.stream().filter(knownUserIds::contains).distinct().toList();
+                assignees.put(issue.getId(), known.isEmpty() && !fileUserIds.isEmpty() ? List.of(owner.getId()) : known);
+            }
+            for (Comment comment : pendingComments) {
+                if (!knownUserIds.contains(comment.getUserId())) {
+                    comment.setUserId(owner.getId());
+                }
+            }
+            return assignees;
+        }
 
+        @Override
+        public void close() throws IOException {
+            if (deferred != null) {
+                deferred.close();
+            }
+            if (deferredFile != null) {
+                Files.deleteIfExists(deferredFile);
+            }
+        }
+    }
+
+    private Issue buildIssue(JsonNode node, Project project, User owner, String issueId, String parentIssueId) {
         Issue issue = new Issue();
-        issue.setKey(issueKey);
+        issue.setId(issueId);
         issue.setTitle(node.get("title").asText());
-        issue.setDescription(node.get("description").asText());
+        issue.setDescription(node.hasNonNull("description") ? node.get("description").asText() : null);
         issue.setType(IssueType.valueOf(node.get("type").asText().toUpperCase()));
         issue.setStatus(IssueStatus.fromString(node.get("status").asText()));
         issue.setPriority(IssuePriority.valueOf(node.get("priority").asText().toUpperCase()));
         issue.setListPosition(node.get("listPosition").asInt());
+        String listRank = node.path("listRank").asText(null);
+        issue.setListRank(LexoRank.isValid(listRank) ? listRank : LexoRank.forPosition(issue.getListPosition()));
+        issueRankRebalancer.markIfTooLong(project.getId(), issue.getStatus(), issue.getListRank());
         issue.setProjectId(project.getId());
-        issue.setProject(project);
-        issue.setReporterId(owner.getId());
-        issue.setReporter(owner);
-
-        if (parentIssueId != null) {
-            issue.setParentIssueId(parentIssueId);
-        }
-
+        issue.setReporterId(node.hasNonNull("reporterId") ? node.get("reporterId").asText() : owner.getId());
+        issue.setParentIssueId(parentIssueId);
         issue.setCreatedAt(toLocalDateTime(node.get("createdAt").asText()));
-        issue.setUpdatedAt(toLocalDateTime(node.get("updatedAt").asText()));
-
-        Issue savedIssue = issueRepository.save(issue);
-        entityManager.flush();
+        // Stamped now, not taken from the file, so the issues show up in the changes feed
+        issue.setUpdatedAt(LocalDateTime.now());
+        return issue;
+    }
 
-        // Assign owner via native query to avoid collection sync issues
-        entityManager.createNativeQuery("INSERT INTO issue_users (user_id, issue_id) VALUES (:uid, :iid)")
-                .setParameter("uid", owner.getId())
-                .setParameter("iid", savedIssue.getId())
-                .executeUpdate();
+    private Comment buildComment(JsonNode node, String issueId) {
+        Comment comment = new Comment();
+        comment.setId(UUID.randomUUID().toString());
+        comment.setBody(node.path("body").asText(""));
+        comment.setIssueId(issueId);
+        comment.setUserId(node.path("userId").asText(null));
+        comment.setCreatedAt(node.hasNonNull("createdAt") ? toLocalDateTime(node.get("createdAt").asText()) : LocalDateTime.now());
+        // Stamped now like the issues, so the comments show up in the changes feed
+        comment.setUpdatedAt(LocalDateTime.now());
+        return comment;
+    }
 
-        return savedIssue;
+    private static InputStream decompressIfGzipped(InputStream source) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(source, 64 * 1024);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        boolean gzip = first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+        return gzip ? new GZIPInputStream(buffered, 64 * 1024) : buffered;
     }
 
     private LocalDateTime toLocalDateTime(String isoDateString) {
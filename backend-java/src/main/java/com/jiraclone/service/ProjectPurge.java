@@ -0,0 +1,59 @@
+package com.jiraclone.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of the background purge of one deleted project. Written by the
+ * purge thread, read by status requests.
+ */
+@Getter
+public class ProjectPurge {
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    private final String projectId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong issuesDeleted = new AtomicLong();
+    private final AtomicLong commentsDeleted = new AtomicLong();
+    private final AtomicLong tombstonesDeleted = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String phase = "queued";
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public ProjectPurge(String projectId) {
+        this.projectId = projectId;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED;
+    }
+
+    void markRunning() {
+        status = Status.RUNNING;
+        startedAt = LocalDateTime.now();
+    }
+
+    void markSucceeded() {
+        phase = "done";
+        status = Status.SUCCEEDED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    void markFailed(String error) {
+        this.error = error;
+        status = Status.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+}
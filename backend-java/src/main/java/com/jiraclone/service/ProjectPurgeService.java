@@ -0,0 +1,200 @@
+package com.jiraclone.service;
+
+import com.jiraclone.domain.entity.Project;
+import com.jiraclone.domain.repository.PermissionRepository;
+import com.jiraclone.domain.repository.ProjectPurgeRepository;
+import com.jiraclone.domain.repository.ProjectRepository;
+import com.jiraclone.event.ProjectDeletedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Project deletion in two steps.
+ *
+ * The request only marks the project as deleting and removes its permissions, so it
+ * disappears for every user at once. A single background thread then deletes subtasks,
+ * issues (with comments and assignments), tombstones and finally the project row, in
+ * batches of project.purge.batch-size, each in its own short transaction. Projects still
+ * marked after a restart or a failed purge are picked up again periodically.
+ */
+@Slf4j
+@Service
+public class ProjectPurgeService {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final ProjectRepository projectRepository;
+    private final PermissionRepository permissionRepository;
+    private final ProjectPurgeRepository projectPurgeRepository;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pauseMs;
+
+    private final ExecutorService executor =
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "project-purge"));
+    private final Map<String, ProjectPurge> purges = new ConcurrentHashMap<>();
+
+    public ProjectPurgeService(ProjectRepository projectRepository,
+                               PermissionRepository permissionRepository,
+                               ProjectPurgeRepository projectPurgeRepository,
+                               ProjectAuthorizationService projectAuthorizationService,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${project.purge.batch-size:500}") int batchSize,
+                               @Value("${project.purge.pause-ms:50}") long pauseMs) {
+        this.projectRepository = projectRepository;
+        this.permissionRepository = permissionRepository;
+        this.projectPurgeRepository = projectPurgeRepository;
+        this.projectAuthorizationService = projectAuthorizationService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+        this.pauseMs = Math.max(pauseMs, 0);
+    }
+
+    /**
+     * Mark the project as deleting; its rows are purged after the transaction commits
+     */
+    @Transactional
+    public void markForDeletion(Project project) {
+        if (project.isDeleting()) {
+            return;
+        }
+        project.setDeletionRequestedAt(LocalDateTime.now());
+        projectRepository.save(project);
+
+        permissionRepository.deleteAllByProjectId(project.getId());
+        projectAuthorizationService.invalidateProject(project.getId());
+        eventPublisher.publishEvent(new ProjectDeletedEvent(project.getId()));
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        submit(event.getProjectId());
+    }
+
+    /**
+     * Resume purges interrupted by a restart or a failure
+     */
+    @Scheduled(fixedDelayString = "${project.purge.resume-interval-ms:300000}")
+    public void resumePending() {
+        projectRepository.findIdsPendingDeletion().forEach(this::submit);
+    }
+
+    public List<ProjectPurge> getPurges() {
+        pruneFinished();
+        return purges.values().stream()
+            .sorted(Comparator.comparing(ProjectPurge::getCreatedAt).reversed())
+            .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(String projectId) {
+        pruneFinished();
+
+        ProjectPurge purge = new ProjectPurge(projectId);
+        ProjectPurge current = purges.compute(projectId,
+            (id, existing) -> existing == null || existing.isFinished() ? purge : existing);
+        if (current == purge) {
+            executor.execute(() -> run(purge));
+        }
+    }
+
+    private void run(ProjectPurge purge) {
+        String projectId = purge.getProjectId();
+        long start = System.nanoTime();
+        purge.markRunning();
+        try {
+            purge.setPhase("subtasks");
+            deleteIssues(purge, true);
+            purge.setPhase("issues");
+            deleteIssues(purge, false);
+
+            purge.setPhase("tombstones");
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status ->
+                    projectPurgeRepository.deleteTombstones(projectId, batchSize));
+                purge.getTombstonesDeleted().addAndGet(deleted);
+                pause();
+            } while (deleted == batchSize);
+
+            purge.setPhase("project");
+            transactionTemplate.executeWithoutResult(status -> {
+                permissionRepository.deleteAllByProjectId(projectId);
+                projectRepository.deleteRowById(projectId);
+            });
+            purge.markSucceeded();
+
+            log.info("Project {} purged: {} issues, {} comments in {} ms", projectId,
+                purge.getIssuesDeleted().get(), purge.getCommentsDeleted().get(),
+                (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // The project stays marked and is retried by resumePending
+            log.error("Purge of project {} failed in phase {}", projectId, purge.getPhase(), e);
+            purge.markFailed(e.getMessage());
+        }
+    }
+
+    private void deleteIssues(ProjectPurge purge, boolean subtasksOnly) {
+        String afterId = "";
+        List<String> batch;
+        do {
+            String cursor = afterId;
+            batch = transactionTemplate.execute(status -> {
+                List<String> ids = projectPurgeRepository.findIssueIds(
+                    purge.getProjectId(), subtasksOnly, cursor, batchSize);
+                purge.getCommentsDeleted().addAndGet(projectPurgeRepository.deleteIssues(ids));
+                return ids;
+            });
+            if (!batch.isEmpty()) {
+                purge.getIssuesDeleted().addAndGet(batch.size());
+                afterId = batch.get(batch.size() - 1);
+                pause();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    /**
+     * Give other transactions room between batches
+     */
+    private void pause() {
+        if (pauseMs == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Project purge interrupted", e);
+        }
+    }
+
+    private void pruneFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(RETENTION);
+        purges.values().removeIf(purge -> purge.isFinished() && purge.getFinishedAt().isBefore(cutoff));
+    }
+}
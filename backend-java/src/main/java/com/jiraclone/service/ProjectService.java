@@ -5,12 +5,21 @@ import com.jiraclone.domain.entity.Permission;
 import com.jiraclone.domain.entity.Project;
 import com.jiraclone.domain.enums.ProjectRole;
 import com.jiraclone.domain.enums.UserRole;
+import com.jiraclone.domain.repository.CommentRepository;
 import com.jiraclone.domain.repository.IssueRepository;
 import com.jiraclone.domain.repository.PermissionRepository;
 import com.jiraclone.domain.repository.ProjectRepository;
+import com.jiraclone.domain.repository.TombstoneRepository;
 import com.jiraclone.dto.request.ProjectRequest;
+import com.jiraclone.dto.response.BoardIssueResponse;
+import com.jiraclone.dto.response.CommentResponse;
+import com.jiraclone.dto.response.IssueResponse;
+import com.jiraclone.dto.response.PermissionResponse;
+import com.jiraclone.dto.response.ProjectBoardResponse;
+import com.jiraclone.dto.response.ProjectChangesResponse;
 import com.jiraclone.dto.response.ProjectDetailResponse;
 import com.jiraclone.dto.response.ProjectResponse;
+import com.jiraclone.dto.response.StreamTokenResponse;
 import com.jiraclone.exception.ForbiddenException;
 import com.jiraclone.exception.ResourceNotFoundException;
 import com.jiraclone.security.UserPrincipal;
@@ -20,7 +29,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +43,16 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final PermissionRepository permissionRepository;
     private final IssueRepository issueRepository;
+    private final CommentRepository commentRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final ProjectPurgeService projectPurgeService;
+    private final TombstoneRetentionService tombstoneRetentionService;
+    private final JwtService jwtService;
+
+    // Window re-read before each sync cursor to catch transactions that committed late
+    private static final Duration CHANGES_OVERLAP = Duration.ofSeconds(5);
+    private static final LocalDateTime SYNC_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
 
     public List<ProjectResponse> getAllProjects(UserPrincipal currentUser) {
         List<Project> projects;
@@ -59,46 +82,119 @@ public class ProjectService {
 
     @Transactional(readOnly = true)
     public ProjectDetailResponse getProjectById(String id, UserPrincipal currentUser) {
-        Project project = projectRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        Project project = findActiveProject(id);
+
+        ProjectRole userRole = resolveUserRole(project, currentUser);
+
+        // Get project issues with relationships (reporter, parent, assignees, comments, subtasks)
+        List<Issue> issues = issueRepository.findByProjectIdWithRelationships(id);
+        issueRepository.fetchSubtasksByProjectId(id);
+
+        // Get project users (all users with permissions on this project)
+        List<Permission> permissions = permissionRepository.findByProjectId(id);
+
+        return ProjectDetailResponse.from(project, userRole, issues, permissions);
+    }
+
+    /**
+     * Same access rule as reading the project; throws when the user may not see it
+     */
+    @Transactional(readOnly = true)
+    public void checkProjectReadAccess(String id, UserPrincipal currentUser) {
+        Project project = findActiveProject(id);
+
+        resolveUserRole(project, currentUser);
+    }
+
+    /**
+     * Token for opening the project's event stream, issued to users who may read the project
+     */
+    @Transactional(readOnly = true)
+    public StreamTokenResponse createEventStreamToken(String id, UserPrincipal currentUser) {
+        checkProjectReadAccess(id, currentUser);
 
-        // Check access permission
-        boolean hasAccess = project.getIsPublic();
+        return StreamTokenResponse.builder()
+            .token(jwtService.generateStreamToken(currentUser.getId(), id))
+            .expiresInSeconds(jwtService.getStreamTokenExpiration() / 1000)
+            .build();
+    }
 
-        ProjectRole userRole = null;
+    /**
+     * Board view of a project: issue cards are read through a DTO projection
+     * (no description, no comments) and assignee ids through a single join-table query.
+     */
+    @Transactional(readOnly = true)
+    public ProjectBoardResponse getProjectBoard(String id, UserPrincipal currentUser) {
+        Project project = findActiveProject(id);
 
-        if (!hasAccess && currentUser != null) {
-            Permission permission = permissionRepository
-                .findByUserIdAndProjectId(currentUser.getId(), id)
-                .orElse(null);
+        ProjectRole userRole = resolveUserRole(project, currentUser);
 
-            hasAccess = permission != null || currentUser.getRole() == UserRole.ADMIN;
+        List<BoardIssueResponse> issues = issueRepository.findBoardIssuesByProjectId(id);
 
-            if (permission != null) {
-                userRole = permission.getRole();
+        Map<String, BoardIssueResponse> issuesById = new HashMap<>();
+        for (BoardIssueResponse issue : issues) {
+            issuesById.put(issue.getId(), issue);
+        }
+        for (Object[] row : issueRepository.findAssigneeIdsByProjectId(id)) {
+            BoardIssueResponse issue = issuesById.get((String) row[0]);
+            if (issue != null) {
+                issue.getUserIds().add((String) row[1]);
             }
         }
 
-        if (!hasAccess) {
-            throw new ForbiddenException("Você não tem permissão para acessar este projeto");
-        }
+        List<Permission> permissions = permissionRepository.findByProjectId(id);
 
-        // Get user's role in project
-        if (currentUser != null && userRole == null) {
-            Permission permission = permissionRepository
-                .findByUserIdAndProjectId(currentUser.getId(), id)
-                .orElse(null);
-            userRole = permission != null ? permission.getRole() :
-                      (project.getIsPublic() ? ProjectRole.VIEWER : null);
-        }
+        return ProjectBoardResponse.from(project, userRole, issues, permissions);
+    }
 
-        // Get project issues with relationships (reporter, assignees, comments)
-        List<Issue> issues = issueRepository.findByProjectIdWithRelationships(id);
+    /**
+     * Issues, comments and memberships created, updated or deleted since the given cursor.
+     * A null cursor, or one older than the tombstone retention, returns the full state
+     * (reset). Queries overlap the cursor by a few seconds so writes committed late are
+     * not missed; clients must apply changes idempotently.
+     */
+    @Transactional(readOnly = true)
+    public ProjectChangesResponse getProjectChanges(String id, LocalDateTime since,
+                                                    UserPrincipal currentUser) {
+        Project project = findActiveProject(id);
 
-        // Get project users (all users with permissions on this project)
-        List<Permission> permissions = permissionRepository.findByProjectId(id);
+        resolveUserRole(project, currentUser);
 
-        return ProjectDetailResponse.from(project, userRole, issues, permissions);
+        LocalDateTime cursor = LocalDateTime.now();
+        boolean reset = since == null || since.isBefore(tombstoneRetentionService.horizon());
+        LocalDateTime from = reset ? SYNC_EPOCH : since.minus(CHANGES_OVERLAP);
+
+        List<IssueResponse> issues = issueRepository.findChangedByProjectId(id, from).stream()
+            .map(IssueResponse::from)
+            .collect(Collectors.toList());
+
+        List<CommentResponse> comments = commentRepository.findChangedByProjectId(id, from).stream()
+            .map(CommentResponse::from)
+            .collect(Collectors.toList());
+
+        List<PermissionResponse> permissions = permissionRepository.findChangedByProjectId(id, from).stream()
+            .map(PermissionResponse::from)
+            .collect(Collectors.toList());
+
+        List<ProjectChangesResponse.DeletedEntity> deleted = reset ? List.of() :
+            tombstoneRepository.findByProjectIdAndDeletedAtGreaterThanEqual(id, from).stream()
+                .map(tombstone -> ProjectChangesResponse.DeletedEntity.builder()
+                    .type(tombstone.getEntityType())
+                    .id(tombstone.getEntityId())
+                    .deletedAt(tombstone.getDeletedAt())
+                    .build())
+                .collect(Collectors.toList());
+
+        return ProjectChangesResponse.builder()
+            .projectId(id)
+            .since(since)
+            .cursor(cursor)
+            .reset(reset)
+            .issues(issues)
+            .comments(comments)
+            .permissions(permissions)
+            .deleted(deleted)
+            .build();
     }
 
     @Transactional
@@ -126,6 +222,7 @@ public class ProjectService {
             .build();
 
         permissionRepository.save(permission);
+        projectAuthorizationService.invalidate(currentUser.getId(), project.getId());
 
         return ProjectResponse.from(project);
     }
@@ -133,11 +230,10 @@ public class ProjectService {
     @Transactional
     public ProjectResponse updateProject(String id, ProjectRequest request,
                                         UserPrincipal currentUser) {
-        Project project = projectRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        Project project = findActiveProject(id);
 
         // Check admin permission
-        checkProjectAdminPermission(id, currentUser);
+        projectAuthorizationService.checkProjectAdminPermission(id, currentUser);
 
         project.setName(request.getName());
         project.setUrl(request.getUrl());
@@ -154,29 +250,43 @@ public class ProjectService {
 
     @Transactional
     public void deleteProject(String id, UserPrincipal currentUser) {
-        Project project = projectRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        Project project = findActiveProject(id);
 
         // Check admin permission
-        checkProjectAdminPermission(id, currentUser);
+        projectAuthorizationService.checkProjectAdminPermission(id, currentUser);
 
-        projectRepository.delete(project);
+        projectPurgeService.markForDeletion(project);
     }
 
-    private void checkProjectAdminPermission(String projectId, UserPrincipal currentUser) {
-        if (currentUser.getRole() == UserRole.ADMIN) {
-            return; // System admin can do anything
-        }
+    /**
+     * Projects marked for deletion are treated as gone while they are being purged
+     */
+    private Project findActiveProject(String id) {
+        return projectRepository.findById(id)
+            .filter(project -> !project.isDeleting())
+            .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+    }
+
+    /**
+     * Check read access to a project and return the user's role in it
+     * (VIEWER for authenticated users on public projects without an explicit permission)
+     */
+    private ProjectRole resolveUserRole(Project project, UserPrincipal currentUser) {
+        ProjectRole role = currentUser != null
+            ? projectAuthorizationService.getRole(currentUser.getId(), project.getId())
+            : null;
+
+        boolean hasAccess = project.getIsPublic() || role != null ||
+            (currentUser != null && currentUser.getRole() == UserRole.ADMIN);
 
-        Permission permission = permissionRepository
-            .findByUserIdAndProjectId(currentUser.getId(), projectId)
-            .orElseThrow(() -> new ForbiddenException(
-                "Você não tem permissão para acessar este projeto"));
+        if (!hasAccess) {
+            throw new ForbiddenException("Você não tem permissão para acessar este projeto");
+        }
 
-        if (permission.getRole() != ProjectRole.ADMIN) {
-            throw new ForbiddenException(
-                "Acesso negado. Requer permissão de admin ou superior.");
+        if (role != null) {
+            return role;
         }
+        return currentUser != null && project.getIsPublic() ? ProjectRole.VIEWER : null;
     }
 
     /**
@@ -184,6 +294,28 @@ public class ProjectService {
      * Examples: "TaskFlow Project" -> "TFP", "My App" -> "MA", "X" -> "X01"
      */
     private String generateUniqueProjectKey(String projectName) {
+        String candidateKey = baseProjectKey(projectName);
+
+        // Check if key exists, add numbers if needed
+        String finalKey = candidateKey;
+        int counter = 1;
+        while (projectRepository.existsByKey(finalKey)) {
+            finalKey = candidateKey + counter;
+            counter++;
+            // Prevent infinite loop
+            if (counter > 999) {
+                finalKey = candidateKey + System.currentTimeMillis() % 1000;
+                break;
+            }
+        }
+
+        return finalKey;
+    }
+
+    /**
+     * Key candidate derived from the project name, before the uniqueness check
+     */
+    static String baseProjectKey(String projectName) {
         // Extract initials from project name (uppercase letters and first letter of words)
         String baseKey = projectName
             .replaceAll("[^a-zA-Z\\s]", "") // Remove special chars and numbers
@@ -215,21 +347,6 @@ public class ProjectService {
         }
 
         // Ensure key is max 10 chars
-        candidateKey = candidateKey.substring(0, Math.min(10, candidateKey.length()));
-
-        // Check if key exists, add numbers if needed
-        String finalKey = candidateKey;
-        int counter = 1;
-        while (projectRepository.existsByKey(finalKey)) {
-            finalKey = candidateKey + counter;
-            counter++;
-            // Prevent infinite loop
-            if (counter > 999) {
-                finalKey = candidateKey + System.currentTimeMillis() % 1000;
-                break;
-            }
-        }
-
-        return finalKey;
+        return candidateKey.substring(0, Math.min(10, candidateKey.length()));
     }
 }
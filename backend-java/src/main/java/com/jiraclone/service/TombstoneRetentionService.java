@@ -0,0 +1,60 @@
+package com.jiraclone.service;
+
+import com.jiraclone.domain.repository.TombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Keeps tombstones for sync.tombstones.retention-hours and prunes older ones in
+ * bounded batches. A sync cursor older than the retention can no longer be served
+ * incrementally; such clients get the full state again (see ProjectService.getProjectChanges).
+ */
+@Slf4j
+@Service
+public class TombstoneRetentionService {
+
+    private final TombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public TombstoneRetentionService(TombstoneRepository tombstoneRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${sync.tombstones.retention-hours:168}") long retentionHours,
+                                     @Value("${sync.tombstones.prune-batch-size:1000}") int batchSize) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofHours(Math.max(retentionHours, 1));
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * Oldest cursor for which every deletion since is still known
+     */
+    public LocalDateTime horizon() {
+        return LocalDateTime.now().minus(retention);
+    }
+
+    @Scheduled(fixedDelayString = "${sync.tombstones.prune-interval-ms:3600000}")
+    public void prune() {
+        LocalDateTime cutoff = horizon();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                tombstoneRepository.deleteOlderThan(cutoff, batchSize));
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("Pruned {} tombstones older than {}", total, cutoff);
+        }
+    }
+}
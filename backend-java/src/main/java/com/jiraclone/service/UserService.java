@@ -8,12 +8,15 @@ import com.jiraclone.dto.response.UserResponse;
 import com.jiraclone.exception.BadRequestException;
 import com.jiraclone.exception.ForbiddenException;
 import com.jiraclone.exception.ResourceNotFoundException;
+import com.jiraclone.security.JwtPrincipalResolver;
 import com.jiraclone.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,6 +26,9 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final NdjsonStreamWriter ndjsonStreamWriter;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
 
     public List<UserResponse> getAllUsers() {
         return userRepository.findAll().stream()
@@ -30,6 +36,14 @@ public class UserService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Stream all users as NDJSON, read and mapped in keyset windows
+     */
+    @Transactional(readOnly = true)
+    public void streamAllUsers(OutputStream outputStream) throws IOException {
+        ndjsonStreamWriter.write(userRepository::findWindowAfter, User::getId, UserResponse::from, outputStream);
+    }
+
     public UserResponse getUserById(String id) {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
@@ -81,6 +95,7 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        jwtPrincipalResolver.evictUser(id);
         return UserResponse.from(user);
     }
 
@@ -95,5 +110,7 @@ public class UserService {
             .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
         userRepository.delete(user);
+        projectAuthorizationService.invalidateUser(id);
+        jwtPrincipalResolver.evictUser(id);
     }
 }
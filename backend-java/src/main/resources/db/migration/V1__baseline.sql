@@ -0,0 +1,89 @@
+-- Baseline: the schema ddl-auto: update generated from the original entities,
+-- before board ranks, background purges and incremental sync. Existing databases
+-- of that release are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and start from V2.
+
+CREATE TABLE users (
+    id          VARCHAR(36)            NOT NULL,
+    name        VARCHAR(255)           NOT NULL,
+    email       VARCHAR(255)           NOT NULL,
+    password    VARCHAR(255),
+    role        ENUM ('ADMIN','USER')  NOT NULL,
+    avatar_url  VARCHAR(255),
+    created_at  DATETIME(6)            NOT NULL,
+    updated_at  DATETIME(6)            NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE projects (
+    id                     VARCHAR(36)                                NOT NULL,
+    `key`                  VARCHAR(10)                                NOT NULL,
+    issue_counter          INTEGER                                    NOT NULL,
+    name                   VARCHAR(255)                               NOT NULL,
+    url                    VARCHAR(255),
+    description            TEXT,
+    category               ENUM ('SOFTWARE','MARKETING','BUSINESS')   NOT NULL,
+    is_public              BIT                                        NOT NULL,
+    created_at             DATETIME(6)                                NOT NULL,
+    updated_at             DATETIME(6)                                NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_projects_key UNIQUE (`key`)
+) ENGINE = InnoDB;
+
+CREATE TABLE issues (
+    id               VARCHAR(36)                                         NOT NULL,
+    `key`            VARCHAR(20)                                         NOT NULL,
+    title            VARCHAR(255)                                        NOT NULL,
+    type             ENUM ('STORY','TASK','BUG','SUBTASK')               NOT NULL,
+    status           ENUM ('BACKLOG','SELECTED','IN_PROGRESS','DONE')    NOT NULL,
+    priority         ENUM ('LOWEST','LOW','MEDIUM','HIGH','HIGHEST')     NOT NULL,
+    list_position    INTEGER                                             NOT NULL,
+    description      MEDIUMTEXT,
+    estimate         INTEGER,
+    time_spent       INTEGER,
+    time_remaining   INTEGER,
+    reporter_id      VARCHAR(255)                                        NOT NULL,
+    project_id       VARCHAR(255)                                        NOT NULL,
+    parent_issue_id  VARCHAR(255),
+    created_at       DATETIME(6)                                         NOT NULL,
+    updated_at       DATETIME(6)                                         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_issues_key UNIQUE (`key`),
+    CONSTRAINT fk_issues_reporter FOREIGN KEY (reporter_id) REFERENCES users (id),
+    CONSTRAINT fk_issues_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_issues_parent FOREIGN KEY (parent_issue_id) REFERENCES issues (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE issue_users (
+    user_id   VARCHAR(36)  NOT NULL,
+    issue_id  VARCHAR(36)  NOT NULL,
+    PRIMARY KEY (user_id, issue_id),
+    CONSTRAINT fk_issue_users_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_issue_users_issue FOREIGN KEY (issue_id) REFERENCES issues (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments (
+    id          VARCHAR(36)   NOT NULL,
+    body        TEXT          NOT NULL,
+    issue_id    VARCHAR(255)  NOT NULL,
+    user_id     VARCHAR(255)  NOT NULL,
+    created_at  DATETIME(6)   NOT NULL,
+    updated_at  DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_issue FOREIGN KEY (issue_id) REFERENCES issues (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE permissions (
+    id          VARCHAR(36)                        NOT NULL,
+    user_id     VARCHAR(255)                       NOT NULL,
+    project_id  VARCHAR(255)                       NOT NULL,
+    role        ENUM ('ADMIN','MEMBER','VIEWER')   NOT NULL,
+    created_at  DATETIME(6)                        NOT NULL,
+    updated_at  DATETIME(6)                        NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_permissions_user_project UNIQUE (user_id, project_id),
+    CONSTRAINT fk_permissions_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_permissions_project FOREIGN KEY (project_id) REFERENCES projects (id)
+) ENGINE = InnoDB;
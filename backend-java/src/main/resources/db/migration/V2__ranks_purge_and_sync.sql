@@ -0,0 +1,20 @@
+-- Board ranks: fractional order within a status column (see LexoRank). Existing
+-- rows stay NULL until the background backfill assigns them.
+ALTER TABLE issues ADD COLUMN list_rank VARCHAR(64);
+
+CREATE INDEX idx_issues_project_status_rank ON issues (project_id, status, list_rank);
+
+-- Background project purge: set when deletion was requested
+ALTER TABLE projects ADD COLUMN deletion_requested_at DATETIME(6);
+
+-- Incremental sync: deleted issues, comments and memberships per project
+CREATE TABLE tombstones (
+    id           VARCHAR(36)                              NOT NULL,
+    entity_type  ENUM ('ISSUE','COMMENT','PERMISSION')    NOT NULL,
+    entity_id    VARCHAR(36)                              NOT NULL,
+    project_id   VARCHAR(36)                              NOT NULL,
+    deleted_at   DATETIME(6)                              NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_tombstones_project_deleted ON tombstones (project_id, deleted_at);
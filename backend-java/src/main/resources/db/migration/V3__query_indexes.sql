@@ -0,0 +1,33 @@
+-- Indexes for the repository queries. Foreign key columns without an index
+-- of their own only had the implicit one InnoDB creates for the constraint.
+-- The entities declare the same indexes (@Index) for schemas built by Hibernate,
+-- as in the loadtest profile.
+
+-- Project detail and change feed (project_id = ? ORDER BY list_position),
+-- countByProjectId
+CREATE INDEX idx_issues_project_position ON issues (project_id, list_position);
+
+-- Change feed: project_id = ? AND updated_at >= ?
+CREATE INDEX idx_issues_project_updated ON issues (project_id, updated_at);
+
+-- Export chunks and background purge: project_id = ? AND id > ? ORDER BY id
+CREATE INDEX idx_issues_project_id ON issues (project_id, id);
+
+-- Subtask collections and subtask lookups by parent
+CREATE INDEX idx_issues_parent ON issues (parent_issue_id);
+
+-- Keyset and page listing of all issues: ORDER BY list_position, id
+CREATE INDEX idx_issues_position_id ON issues (list_position, id);
+
+-- Comments of an issue in creation order, keyset on (created_at, id), and the
+-- per-issue comment count of the board
+CREATE INDEX idx_comments_issue_created ON comments (issue_id, created_at, id);
+
+-- Assignees of an issue; the primary key leads with user_id
+CREATE INDEX idx_issue_users_issue ON issue_users (issue_id, user_id);
+
+-- Project members and their change feed: project_id = ? [AND updated_at >= ?]
+CREATE INDEX idx_permissions_project_updated ON permissions (project_id, updated_at);
+
+-- Purge resume: deletion_requested_at IS NOT NULL
+CREATE INDEX idx_projects_deletion_requested ON projects (deletion_requested_at);
@@ -0,0 +1,2 @@
+-- Tombstone retention: pruning deletes by age across all projects
+CREATE INDEX idx_tombstones_deleted ON tombstones (deleted_at);
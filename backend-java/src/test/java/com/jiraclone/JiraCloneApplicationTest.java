@@ -0,0 +1,37 @@
+package com.jiraclone;
+
+import com.jiraclone.domain.entity.Permission;
+import com.jiraclone.domain.entity.Project;
+import com.jiraclone.domain.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The application context starts with the second-level cache regions of ehcache.xml;
+ * a cache configuration Hibernate cannot load fails here
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JiraCloneApplicationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void contextLoadsWithSecondLevelCache() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        CacheImplementor cache = sessionFactory.getCache();
+
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isTrue();
+        assertThat(cache.getRegion(Project.class.getName())).isNotNull();
+        assertThat(cache.getRegion(User.class.getName())).isNotNull();
+        assertThat(cache.getRegion(Permission.class.getName())).isNotNull();
+    }
+}
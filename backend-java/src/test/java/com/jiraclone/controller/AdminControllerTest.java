@@ -0,0 +1,49 @@
+package com.jiraclone.controller;
+
+import com.jiraclone.domain.entity.User;
+import com.jiraclone.domain.enums.UserRole;
+import com.jiraclone.domain.repository.UserRepository;
+import com.jiraclone.service.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.servlet.multipart.max-file-size=1KB")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void rawImportBodyOverTheMaximumSizeIsRejected() throws Exception {
+        User admin = userRepository.save(User.builder()
+            .name("Import Admin")
+            .email("admin-" + UUID.randomUUID() + "@test.local")
+            .password("unused")
+            .role(UserRole.ADMIN)
+            .build());
+
+        mockMvc.perform(post("/api/admin/import-project")
+                .header("Authorization", "Bearer " + jwtService.generateToken(admin.getId(), admin.getEmail()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new byte[2048]))
+            .andExpect(status().isPayloadTooLarge());
+    }
+}
@@ -0,0 +1,123 @@
+package com.jiraclone.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiraclone.domain.entity.User;
+import com.jiraclone.domain.repository.UserRepository;
+import com.jiraclone.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IssueControllerTest {
+
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(User.builder()
+            .name("Board User")
+            .email("board-" + UUID.randomUUID() + "@test.local")
+            .password("unused")
+            .build());
+        token = jwtService.generateToken(user.getId(), user.getEmail());
+    }
+
+    @Test
+    void editingAPlacedIssueKeepsItsBoardOrder() throws Exception {
+        String projectId = (String) send(post("/api/projects"), Map.of(
+            "name", "Board order", "category", "Software")).get("id");
+        String first = createIssue(projectId, "First", 1);
+        String second = createIssue(projectId, "Second", 2);
+        String placed = createIssue(projectId, "Placed", 3);
+
+        // Drag the last card between the other two
+        perform(withBody(post("/api/projects/{id}/board/moves", projectId), Map.of("moves", List.of(Map.of(
+            "issueId", placed, "status", "Backlog", "afterIssueId", first, "beforeIssueId", second)))));
+        Map<String, Object> issue = read(get("/api/issues/{id}", placed));
+        String placedRank = (String) issue.get("listRank");
+
+        // The client sends the whole issue back with one field changed
+        issue.put("priority", "Highest");
+        send(put("/api/issues/{id}", placed), issue);
+
+        assertThat(read(get("/api/issues/{id}", placed)).get("listRank")).isEqualTo(placedRank);
+        assertThat(boardOrder(projectId)).containsExactly(first, placed, second);
+    }
+
+    private String createIssue(String projectId, String title, int listPosition) throws Exception {
+        return (String) send(post("/api/issues"), Map.of(
+            "title", title,
+            "type", "Task",
+            "status", "Backlog",
+            "priority", "Medium",
+            "listPosition", listPosition,
+            "reporterId", user.getId(),
+            "projectId", projectId)).get("id");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> boardOrder(String projectId) throws Exception {
+        List<Map<String, Object>> issues = (List<Map<String, Object>>)
+            read(get("/api/projects/{id}", projectId).param("view", "board")).get("issues");
+        return issues.stream().map(issue -> (String) issue.get("id")).toList();
+    }
+
+    private Map<String, Object> send(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        return read(withBody(request, body));
+    }
+
+    private Map<String, Object> read(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readValue(perform(request), JSON_OBJECT);
+    }
+
+    private MockHttpServletRequestBuilder withBody(MockHttpServletRequestBuilder request, Object body)
+            throws Exception {
+        return request
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsBytes(body));
+    }
+
+    private String perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().is2xxSuccessful())
+            .andReturn().getResponse().getContentAsString();
+    }
+}
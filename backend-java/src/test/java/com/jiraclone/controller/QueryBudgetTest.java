@@ -0,0 +1,113 @@
+package com.jiraclone.controller;
+
+import com.jiraclone.config.SyntheticDataSeeder;
+import com.jiraclone.domain.entity.User;
+import com.jiraclone.domain.repository.UserRepository;
+import com.jiraclone.metrics.QueryCountHeaderAdvice;
+import com.jiraclone.search.IssueSearchIndex;
+import com.jiraclone.service.JwtService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The @QueryBudget endpoints against a seeded H2 database with query.budget.enforce
+ * on: a request going over its budget fails with a 500 instead of being logged.
+ *
+ * Projects have more issues than hibernate.default_batch_fetch_size, so lazy loads
+ * that are only batched (one statement per 100 issues) go over budget too.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    private static final int PROJECTS = 2;
+    private static final int ISSUES_PER_PROJECT = 250;
+    private static final int BUDGET = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SyntheticDataSeeder syntheticDataSeeder;
+
+    @Autowired
+    private IssueSearchIndex issueSearchIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String projectId;
+    private String token;
+
+    @BeforeAll
+    void seed() throws Exception {
+        SyntheticDataSeeder.Dataset dataset = syntheticDataSeeder.seed(PROJECTS, ISSUES_PER_PROJECT, 2, 20, 42L);
+        issueSearchIndex.rebuild();
+
+        SyntheticDataSeeder.SeededProject project = dataset.getProjects().get(0);
+        User admin = userRepository.findById(project.getMemberIds().get(0)).orElseThrow();
+        projectId = project.getId();
+        token = jwtService.generateToken(admin.getId(), admin.getEmail());
+    }
+
+    @Test
+    void projectDetailStaysWithinBudget() throws Exception {
+        MvcResult result = mockMvc.perform(authenticated(get("/api/projects/{id}", projectId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.issues.length()").value(ISSUES_PER_PROJECT))
+            .andReturn();
+
+        assertWithinBudget(result);
+    }
+
+    @Test
+    void allIssuesStayWithinBudget() throws Exception {
+        MvcResult result = mockMvc.perform(authenticated(get("/api/issues").accept(MediaType.APPLICATION_JSON)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(PROJECTS * ISSUES_PER_PROJECT))
+            .andReturn();
+
+        assertWithinBudget(result);
+    }
+
+    @Test
+    void searchStaysWithinBudget() throws Exception {
+        MvcResult result = mockMvc.perform(authenticated(get("/api/issues/search")
+                .param("term", "login")
+                .param("projectId", projectId)
+                .param("size", "200")))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertWithinBudget(result);
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+
+    private static void assertWithinBudget(MvcResult result) {
+        String statements = result.getResponse().getHeader(QueryCountHeaderAdvice.HEADER);
+        assertThat(statements).isNotNull();
+        assertThat(Integer.parseInt(statements)).isLessThanOrEqualTo(BUDGET);
+    }
+}
@@ -0,0 +1,64 @@
+package com.jiraclone.domain.rank;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LexoRankTest {
+
+    @Test
+    void betweenOpenBoundsIsTheMiddleDigit() {
+        assertThat(LexoRank.between(null, null)).isEqualTo("i");
+    }
+
+    @Test
+    void betweenIsStrictlyBetweenItsBounds() {
+        String[][] bounds = {
+            { "a", "b" }, { "a", "a1" }, { "0001", "0002" }, { "zz", null }, { null, "01" },
+            { LexoRank.forPosition(3), LexoRank.forPosition(4) }, { "az", "b" }, { "a", "az" }
+        };
+        for (String[] bound : bounds) {
+            String rank = LexoRank.between(bound[0], bound[1]);
+            if (bound[0] != null) {
+                assertThat(rank).as("between(%s, %s)", bound[0], bound[1]).isGreaterThan(bound[0]);
+            }
+            if (bound[1] != null) {
+                assertThat(rank).as("between(%s, %s)", bound[0], bound[1]).isLessThan(bound[1]);
+            }
+            assertThat(rank).doesNotEndWith("0");
+        }
+    }
+
+    @Test
+    void repeatedInsertsAtTheSameSpotStayOrdered() {
+        String lower = LexoRank.forPosition(0);
+        String upper = LexoRank.forPosition(1);
+        for (int i = 0; i < 200; i++) {
+            String rank = LexoRank.between(lower, upper);
+            assertThat(rank).isGreaterThan(lower).isLessThan(upper);
+            upper = rank;
+        }
+        // Inserting in front of the previous insert adds a digit every few inserts
+        assertThat(upper.length()).isGreaterThan(LexoRank.POSITION_KEY_LENGTH);
+    }
+
+    @Test
+    void betweenRejectsBoundsOutOfOrder() {
+        assertThatThrownBy(() -> LexoRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LexoRank.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void betweenRejectsInvalidCharacters() {
+        assertThatThrownBy(() -> LexoRank.between("A", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void forPositionKeepsIntegerOrderAndClampsNegatives() {
+        assertThat(LexoRank.forPosition(9)).isLessThan(LexoRank.forPosition(10));
+        assertThat(LexoRank.forPosition(35)).isLessThan(LexoRank.forPosition(36));
+        assertThat(LexoRank.forPosition(-5)).isEqualTo(LexoRank.forPosition(0));
+        assertThat(LexoRank.forPosition(0)).hasSize(LexoRank.POSITION_KEY_LENGTH);
+    }
+}
@@ -0,0 +1,51 @@
+package com.jiraclone.service;
+
+import com.jiraclone.domain.entity.Project;
+import com.jiraclone.domain.enums.ProjectCategory;
+import com.jiraclone.domain.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IssueKeyAllocatorTest {
+
+    @Autowired
+    private IssueKeyAllocator issueKeyAllocator;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void reservingABlockKeepsCachedProjects() {
+        Project project = projectRepository.save(Project.builder()
+            .key("KEYS")
+            .name("Key blocks")
+            .category(ProjectCategory.SOFTWARE)
+            .build());
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        projectRepository.findById(project.getId());
+        assertThat(sessionFactory.getCache().containsEntity(Project.class, project.getId())).isTrue();
+
+        statistics.clear();
+        assertThat(issueKeyAllocator.nextKey(project.getId())).isEqualTo("KEYS-1");
+        assertThat(issueKeyAllocator.reserveRange(project.getId(), 10)).isEqualTo(51);
+
+        assertThat(sessionFactory.getCache().containsEntity(Project.class, project.getId())).isTrue();
+        projectRepository.findById(project.getId());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+        assertThat(projectRepository.findIssueCounterById(project.getId())).isEqualTo(60);
+    }
+}